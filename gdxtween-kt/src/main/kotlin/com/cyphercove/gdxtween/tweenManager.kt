@@ -27,6 +27,11 @@ interface TweenManager {
      */
     fun Tween<*>.start() = start(tweenRunner)
 
+    /**
+     * Starts the tween using the [tweenRunner] on the given [TweenChannel].
+     */
+    fun Tween<*>.start(channel: Int) = start(tweenRunner, channel)
+
     /**
      * Must be called for every frame of animation to advance all of the tweens.
      * @param deltaTime The time passed since the last step.
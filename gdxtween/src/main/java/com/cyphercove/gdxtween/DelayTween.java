@@ -62,13 +62,13 @@ public final class DelayTween extends Tween<DelayTween> {
     }
 
     @Override
-    protected void collectInterrupters(Array<? super TargetTween<?, ?>> collection) {
-
+    float getIdleTime() {
+        return getTotalDuration() - getElapsedTime();
     }
 
     @Override
-    protected boolean checkInterruption(Class<? extends TargetTween<?, ?>> tweenType, Object target,  float[] requestedWorldSpeeds) {
-        return false;
+    protected void collectInterrupters(Array<? super TargetTween<?, ?>> collection) {
+
     }
 
     @Override
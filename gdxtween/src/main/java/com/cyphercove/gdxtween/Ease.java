@@ -109,6 +109,96 @@ public abstract class Ease {
         public abstract float getEndSpeed();
     }
 
+    /* Kinds of built-in eases, so batches can call their functions directly ----------------------*/
+
+    static final int KIND_OTHER = 0;
+    static final int KIND_LINEAR = 1;
+    static final int KIND_SMOOTHSTEP = 2;
+    static final int KIND_SMOOTHERSTEP = 3;
+    static final int KIND_CUBIC_HERMITE = 4;
+    static final int KIND_QUINTIC_HERMITE = 5;
+    static final int KIND_INTERPOLATION = 6;
+    static final int KIND_BAKED = 7;
+
+    /**
+     * Identifies the built-in ease function used by an Ease, so it can be evaluated with a static call instead of
+     * through {@link #apply(float, float, float)}. Subclasses of the built-in eases are {@link #KIND_OTHER} since they
+     * may override it.
+     */
+    static int kindOf(Ease ease) {
+        Class<?> type = ease.getClass();
+        if (type == LINEAR_TYPE)
+            return KIND_LINEAR;
+        if (type == SMOOTHSTEP_TYPE)
+            return KIND_SMOOTHSTEP;
+        if (type == SMOOTHERSTEP_TYPE)
+            return KIND_SMOOTHERSTEP;
+        if (type == CubicHermite.class)
+            return KIND_CUBIC_HERMITE;
+        if (type == QuinticHermite.class)
+            return KIND_QUINTIC_HERMITE;
+        if (type == InterpolationWrapper.class)
+            return KIND_INTERPOLATION;
+        if (type == BakedEase.class)
+            return KIND_BAKED;
+        return KIND_OTHER;
+    }
+
+    static float applyLinear(float a, float start, float end) {
+        if (a <= 0)
+            return start;
+        if (a >= 1)
+            return end;
+        return a * (end - start) + start;
+    }
+
+    static float applySmoothstep(float a, float start, float end) {
+        if (a <= 0)
+            return start;
+        if (a >= 1)
+            return end;
+        return a * a * (3 - 2 * a) * (end - start) + start;
+    }
+
+    static float applySmootherstep(float a, float start, float end) {
+        if (a <= 0)
+            return start;
+        if (a >= 1)
+            return end;
+        return a * a * a * (a * (a * 6 - 15) + 10) * (end - start) + start;
+    }
+
+    static float applyCubicHermite(float a, float start, float end, float startSpeed, float endSpeed) {
+        if (startSpeed == 0 && endSpeed == 0)
+            return applySmoothstep(a, start, end);
+        if (a <= 0)
+            return start;
+        if (a >= 1)
+            return end;
+
+        float a2 = a * a;
+        float a3 = a2 * a;
+        return start + (end - start) * (-2 * a3 + 3 * a2) +
+                startSpeed * (a3 - 2 * a2 + a) +
+                endSpeed * (a3 - a2);
+    }
+
+    static float applyQuinticHermite(float a, float start, float end, float startSpeed, float endSpeed) {
+        if (startSpeed == 0 && endSpeed == 0)
+            return applySmootherstep(a, start, end);
+        if (a <= 0)
+            return start;
+        if (a >= 1)
+            return end;
+
+        float a3 = a * a * a;
+        float a4 = a3 * a;
+        float a5x3 = a4 * a * 3;
+        return start + (end - start) * (2 * a5x3 - 15 * a4 + 10 * a3) +
+                startSpeed * (-a5x3 + 8 * a4 - 6 * a3 + a) +
+                endSpeed * (-a5x3 + 7 * a4 - 4 * a3);
+    }
+
     /* Immutable static eases --------------------------------------------------------------------*/
 
     private static Ease createLinear() {
@@ -116,11 +206,7 @@ public abstract class Ease {
 
             @Override
             public float apply(float a, float start, float end) {
-                if (a <= 0)
-                    return start;
-                if (a >= 1)
-                    return end;
-                return a * (end - start) + start;
+                return applyLinear(a, start, end);
             }
 
             @Override
@@ -145,11 +231,7 @@ public abstract class Ease {
     public static Ease smoothstep = new Ease() {
         @Override
         public float apply(float a, float start, float end) {
-            if (a <= 0)
-                return start;
-            if (a >= 1)
-                return end;
-            return a * a * (3 - 2 * a) * (end - start) + start;
+            return applySmoothstep(a, start, end);
         }
 
         @Override
@@ -167,11 +249,7 @@ public abstract class Ease {
     public static Ease smootherstep = new Ease() {
         @Override
         public float apply(float a, float start, float end) {
-            if (a <= 0)
-                return start;
-            if (a >= 1)
-                return end;
-            return a * a * a * (a * (a * 6 - 15) + 10) * (end - start) + start;
+            return applySmootherstep(a, start, end);
         }
 
         @Override
@@ -183,6 +261,11 @@ public abstract class Ease {
 
     };
 
+    // Identified by type, since the public static fields can be reassigned.
+    private static final Class<?> LINEAR_TYPE = DEFAULT.getClass();
+    private static final Class<?> SMOOTHSTEP_TYPE = smoothstep.getClass();
+    private static final Class<?> SMOOTHERSTEP_TYPE = smootherstep.getClass();
+
     /* Mutable eases --------------------------------------------------------------------------*/
 
     /**
@@ -229,18 +312,7 @@ public abstract class Ease {
 
         @Override
         public float apply(float a, float start, float end) {
-            if (startSpeed == 0 && endSpeed == 0)
-                return smoothstep.apply(a, start, end);
-            if (a <= 0)
-                return start;
-            if (a >= 1)
-                return end;
-
-            float a2 = a * a;
-            float a3 = a2 * a;
-            return start + (end - start) * (-2 * a3 + 3 * a2) +
-                    startSpeed * (a3 - 2 * a2 + a) +
-                    endSpeed * (a3 - a2);
+            return applyCubicHermite(a, start, end, startSpeed, endSpeed);
         }
 
         @Override
@@ -317,19 +389,7 @@ public abstract class Ease {
 
         @Override
         public float apply(float a, float start, float end) {
-            if (startSpeed == 0 && endSpeed == 0)
-                return smootherstep.apply(a, start, end);
-            if (a <= 0)
-                return start;
-            if (a >= 1)
-                return end;
-
-            float a3 = a * a * a;
-            float a4 = a3 * a;
-            float a5x3 = a4 * a * 3;
-            return start + (end - start) * (2 * a5x3 - 15 * a4 + 10 * a3) +
-                    startSpeed * (-a5x3 + 8 * a4 - 6 * a3 + a) +
-                    endSpeed * (-a5x3 + 7 * a4 - 4 * a3);
+            return applyQuinticHermite(a, start, end, startSpeed, endSpeed);
         }
 
         @Override
@@ -363,10 +423,17 @@ public abstract class Ease {
         return quinticPool.obtain();
     }
 
+    /**
+     * An Ease that uses the function of an {@link Interpolation}. For the Interpolations provided by libGDX, the speed
+     * is calculated exactly from the derivative of the function. For other Interpolations, it is approximated from
+     * the difference between two nearby values.
+     */
     public static class InterpolationWrapper extends Ease {
         Interpolation interpolation = Interpolation.linear;
         float precision = 0.001f;
         float halfPrecision = 0.0005f;
+        private final float[] speedParameter = new float[1];
+        private int speedFunction = InterpolationSpeeds.identify(interpolation, speedParameter);
 
         public Interpolation getInterpolation() {
             return interpolation;
@@ -374,11 +441,12 @@ public abstract class Ease {
 
         public void setInterpolation(Interpolation interpolation) {
             this.interpolation = interpolation;
+            speedFunction = InterpolationSpeeds.identify(interpolation, speedParameter);
         }
 
         @Override
         public void free() {
-            interpolation = Interpolation.linear;
+            setInterpolation(Interpolation.linear);
             precision = 0.001f;
             halfPrecision = 0.0005f;
             Pools.free(this);
@@ -386,7 +454,8 @@ public abstract class Ease {
 
         /**
          * Sets the precision for calculating this interpolation's speed. This is the fraction of total
-         * duration used for calculating the speed.
+         * duration used for calculating the speed. It is not used for the Interpolations provided by libGDX, whose
+         * speed is calculated exactly.
          *
          * @param precision The new precision.
          */
@@ -402,6 +471,16 @@ public abstract class Ease {
 
         @Override
         public float speed(float a, float start, float end) {
+            if (speedFunction != InterpolationSpeeds.NONE) {
+                float speed = InterpolationSpeeds.speed(speedFunction, speedParameter[0], MathUtils.clamp(a, 0f, 1f));
+                // Some functions are vertical at an end or midpoint, where the approximation is still finite.
+                if (!Float.isInfinite(speed) && !Float.isNaN(speed))
+                    return speed * (end - start);
+            }
+            return approximateSpeed(a, start, end);
+        }
+
+        private float approximateSpeed(float a, float start, float end) {
             if (a <= halfPrecision)
                 return interpolation.apply(precision) * (end - start) / precision;
 
@@ -441,4 +520,101 @@ public abstract class Ease {
         ease.setSpeedPrecision(speedPrecision);
         return ease;
     }
+
+    /**
+     * An immutable Ease that looks up precomputed samples of another Ease's function and its speed, and linearly
+     * interpolates between them. This makes eases that are expensive to evaluate, such as wrapped
+     * {@linkplain Interpolation Interpolations} that call {@code Math.pow} or {@code Math.sin}, cost the same as the
+     * simplest built-in eases. Since it is immutable, a single instance can be shared by any number of tweens. Create
+     * one with {@link #baked(Ease, int)} or {@link #baked(Interpolation, int)}.
+     * <p>
+     * With {@code n} samples, the sample spacing is {@code h = 1/n}. Between samples, the error of
+     * {@link #apply(float, float, float)} is at most {@code h * h / 8} times the largest magnitude of the second
+     * derivative of the original function over that interval, times {@code (end - start)}. For example, with 256
+     * samples, {@link #smoothstep} (whose second derivative is at most 6) is within 0.0000115 of the exact
+     * fraction of the distance. At corners where the original function's speed changes abruptly, such as the bounces
+     * of {@link Interpolation#bounce}, the error can be up to {@code h / 4} times the change in speed. Within one
+     * sample of a discontinuity, such as the middle of {@link Interpolation#elastic}, the error can be as large as the
+     * jump. The error of
+     * {@link #speed(float, float, float)} is bounded the same way using the third derivative, and the speed is exact at
+     * the samples only to the degree the original ease's speed was.
+     */
+    public static final class BakedEase extends Ease {
+        private final int samples;
+        private final float[] values;
+        private final float[] speeds;
+
+        BakedEase(Ease ease, int samples) {
+            if (samples < 1)
+                throw new IllegalArgumentException("samples must be at least 1.");
+            if (ease instanceof BlendInEase)
+                throw new IllegalArgumentException("A BlendInEase cannot be baked because its start speed can change.");
+            this.samples = samples;
+            values = new float[samples + 1];
+            speeds = new float[samples + 1];
+            for (int i = 0; i <= samples; i++) {
+                float a = (float) i / samples;
+                values[i] = ease.apply(a, 0f, 1f);
+                speeds[i] = ease.speed(a, 0f, 1f);
+            }
+        }
+
+        /**
+         * @return The number of intervals between the samples of the original function.
+         */
+        public int getSamples() {
+            return samples;
+        }
+
+        private float sample(float[] table, float a) {
+            if (a <= 0f)
+                return table[0];
+            float position = a * samples;
+            int index = (int) position;
+            if (index >= samples)
+                return table[samples];
+            float low = table[index];
+            return low + (table[index + 1] - low) * (position - index);
+        }
+
+        @Override
+        public float apply(float a, float start, float end) {
+            return start + sample(values, a) * (end - start);
+        }
+
+        @Override
+        public float speed(float a, float start, float end) {
+            return sample(speeds, a) * (end - start);
+        }
+    }
+
+    /**
+     * Creates an immutable table-based copy of an Ease, which is cheap to evaluate and can be shared by any number of
+     * tweens. It is intended to be created once, for example in a static field. The Ease is only sampled and is not
+     * retained, so a poolable Ease can be freed afterwards. The Ease's function must scale linearly with the distance
+     * from its start to its end value, as all the provided eases do. See {@link BakedEase} for the error bounds.
+     *
+     * @param ease    The ease to sample. Must not be a {@link BlendInEase}, because its start speed is changed when it
+     *                blends into an interrupted tween.
+     * @param samples The number of intervals to sample the function at. The table holds two floats for each sample.
+     * @return A new BakedEase.
+     */
+    public static BakedEase baked(Ease ease, int samples) {
+        return new BakedEase(ease, samples);
+    }
+
+    /**
+     * Creates an immutable table-based Ease for an Interpolation, which is cheap to evaluate and can be shared by any
+     * number of tweens. See {@link #baked(Ease, int)}.
+     *
+     * @param interpolation The Interpolation to sample.
+     * @param samples       The number of intervals to sample the function at.
+     * @return A new BakedEase.
+     */
+    public static BakedEase baked(Interpolation interpolation, int samples) {
+        InterpolationWrapper wrapper = wrap(interpolation);
+        BakedEase ease = new BakedEase(wrapper, samples);
+        wrapper.free();
+        return ease;
+    }
 }
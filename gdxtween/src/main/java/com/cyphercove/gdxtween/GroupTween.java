@@ -27,9 +27,19 @@ public abstract class GroupTween<T> extends Tween<T> {
 
     protected final Array<Tween<?>> children;
     private ChildInterruptionBehavior childInterruptionBehavior = ChildInterruptionBehavior.CancelHierarchy;
-    private float duration = 0f;
+    /**
+     * The cached duration, or -1 if it needs to be calculated. If a group's duration is cached, so are those of all the
+     * groups below it, because they were used to calculate it.
+     */
+    private float duration = -1f;
     private Ease defaultEase = null;
     private float defaultDuration = -1f;
+    /**
+     * Whether the descendants of this group are stepped by the {@link TweenSchedule} of its top level parent instead of
+     * by this group, and the schedule itself if this is the top level parent.
+     */
+    boolean isScheduled;
+    TweenSchedule schedule;
 
     protected GroupTween (int initialCapacity) {
         children = new Array<Tween<?>>(initialCapacity);
@@ -38,26 +48,65 @@ public abstract class GroupTween<T> extends Tween<T> {
     @Override
     void markAttached() {
         super.markAttached();
+        duration = -1f; // Children may have been modified since they were added. The structure is fixed from now on.
         for (Tween<?> tween : children)
             tween.markAttached();
     }
 
     @Override
     protected void begin() {
-        duration = calculateDuration();
     }
 
+    /**
+     * The duration is calculated the first time it is needed and cached until a child is added with
+     * {@link #run(Tween)}. It is calculated once more when the tween is started, in case children were modified after
+     * they were added.
+     *
+     * @return This tween's length.
+     */
     @Override
     public float getDuration() {
-        if (duration != 0f) // Tween is started, no need to recalculate on each call.
-            return duration;
-        if (children.size == 0)
-            return 0f;
-        return calculateDuration();
+        if (duration < 0f)
+            duration = calculateDuration();
+        return duration;
+    }
+
+    /**
+     * Clears the cached duration of this group and the groups containing it.
+     */
+    private void invalidateDuration() {
+        for (GroupTween<?> group = this; group != null && group.duration >= 0f; group = group.getParent())
+            group.duration = -1f;
     }
 
     protected abstract float calculateDuration ();
 
+    /**
+     * Steps the schedule if this is a scheduled top level group. Called at the start of {@link #update()}.
+     *
+     * @return True if this group is scheduled, in which case it must not step its children itself.
+     */
+    final boolean updateScheduled() {
+        if (!isScheduled)
+            return false;
+        if (schedule != null)
+            schedule.step(getTime(), isComplete());
+        return true;
+    }
+
+    /**
+     * Rewinds the schedule if this is a scheduled top level group. Called at the start of {@link #rewind()}.
+     *
+     * @return True if this group is scheduled, in which case it must not rewind its children itself.
+     */
+    final boolean rewindScheduled() {
+        if (!isScheduled)
+            return false;
+        if (schedule != null)
+            schedule.rewind(getTime());
+        return true;
+    }
+
     /**
      * Adds the specified child to this group.
      *
@@ -79,6 +128,7 @@ public abstract class GroupTween<T> extends Tween<T> {
         else {
             childTween.setParent(this);
             children.add(childTween);
+            invalidateDuration();
         }
         return (T)this;
     }
@@ -206,10 +256,37 @@ public abstract class GroupTween<T> extends Tween<T> {
         return (T)this;
     }
 
+    @Override
+    void collectTargetTweens(Array<? super TargetTween<?, ?>> collection) {
+        for (Tween<?> tween : children)
+            tween.collectTargetTweens(collection);
+    }
+
+    /**
+     * Called when a descendant of this tween has been interrupted, after all descendants between it and this tween
+     * have handled the interruption.
+     *
+     * @return True if this tween was canceled as a result.
+     */
+    boolean handleChildInterruption() {
+        if (getChildInterruptionBehavior() == ChildInterruptionBehavior.CancelHierarchy) {
+            boolean wasCanceled = isCanceled();
+            cancel();
+            return !wasCanceled;
+        }
+        return false;
+    }
+
     @Override
     public void free() {
         super.free();
-        duration = 0f;
+        childInterruptionBehavior = ChildInterruptionBehavior.CancelHierarchy;
+        duration = -1f;
+        isScheduled = false;
+        if (schedule != null) {
+            schedule.free();
+            schedule = null;
+        }
         defaultDuration = -1f;
         if (defaultEase != null) {
             defaultEase.free();
@@ -0,0 +1,281 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.utils.IdentityMap;
+
+/**
+ * Closed form derivatives of the standard libGDX {@link Interpolation Interpolations}, used by
+ * {@link Ease.InterpolationWrapper#speed(float, float, float)} in place of a numerical approximation. The parameters of
+ * libGDX's Interpolation classes are not accessible, so the static instances are identified by identity, and the
+ * parameters of other instances of the Pow, Exp and Swing classes are recovered from their values at a known point.
+ * Instances of other Interpolation classes, including custom Elastic and Bounce instances, are not supported.
+ */
+final class InterpolationSpeeds {
+
+    static final int NONE = 0;
+    private static final int LINEAR = 1;
+    private static final int SMOOTH = 2;
+    private static final int SMOOTH2 = 3;
+    private static final int SMOOTHER = 4;
+    private static final int POW = 5;
+    private static final int POW_IN = 6;
+    private static final int POW_OUT = 7;
+    private static final int POW2_IN_INVERSE = 8;
+    private static final int POW2_OUT_INVERSE = 9;
+    private static final int POW3_IN_INVERSE = 10;
+    private static final int POW3_OUT_INVERSE = 11;
+    private static final int SINE = 12;
+    private static final int SINE_IN = 13;
+    private static final int SINE_OUT = 14;
+    private static final int EXP = 15;
+    private static final int EXP_IN = 16;
+    private static final int EXP_OUT = 17;
+    private static final int CIRCLE = 18;
+    private static final int CIRCLE_IN = 19;
+    private static final int CIRCLE_OUT = 20;
+    private static final int ELASTIC = 21;
+    private static final int ELASTIC_IN = 22;
+    private static final int ELASTIC_OUT = 23;
+    private static final int SWING = 24;
+    private static final int SWING_IN = 25;
+    private static final int SWING_OUT = 26;
+    private static final int BOUNCE = 27;
+    private static final int BOUNCE_IN = 28;
+    private static final int BOUNCE_OUT = 29;
+
+    private static final IdentityMap<Interpolation, Integer> FUNCTIONS = new IdentityMap<Interpolation, Integer>();
+
+    static {
+        FUNCTIONS.put(Interpolation.linear, LINEAR);
+        FUNCTIONS.put(Interpolation.smooth, SMOOTH);
+        FUNCTIONS.put(Interpolation.smooth2, SMOOTH2);
+        FUNCTIONS.put(Interpolation.smoother, SMOOTHER);
+        FUNCTIONS.put(Interpolation.fade, SMOOTHER);
+        FUNCTIONS.put(Interpolation.pow2InInverse, POW2_IN_INVERSE);
+        FUNCTIONS.put(Interpolation.pow2OutInverse, POW2_OUT_INVERSE);
+        FUNCTIONS.put(Interpolation.pow3InInverse, POW3_IN_INVERSE);
+        FUNCTIONS.put(Interpolation.pow3OutInverse, POW3_OUT_INVERSE);
+        FUNCTIONS.put(Interpolation.sine, SINE);
+        FUNCTIONS.put(Interpolation.sineIn, SINE_IN);
+        FUNCTIONS.put(Interpolation.sineOut, SINE_OUT);
+        FUNCTIONS.put(Interpolation.circle, CIRCLE);
+        FUNCTIONS.put(Interpolation.circleIn, CIRCLE_IN);
+        FUNCTIONS.put(Interpolation.circleOut, CIRCLE_OUT);
+        FUNCTIONS.put(Interpolation.elastic, ELASTIC);
+        FUNCTIONS.put(Interpolation.elasticIn, ELASTIC_IN);
+        FUNCTIONS.put(Interpolation.elasticOut, ELASTIC_OUT);
+        FUNCTIONS.put(Interpolation.bounce, BOUNCE);
+        FUNCTIONS.put(Interpolation.bounceIn, BOUNCE_IN);
+        FUNCTIONS.put(Interpolation.bounceOut, BOUNCE_OUT);
+    }
+
+    // Parameters of the static Elastic instances: value 2 and power 10 combine into 2^10.
+    private static final double ELASTIC_LOG_BASE = 10 * Math.log(2);
+    private static final double ELASTIC_BOUNCES = -7 * Math.PI;
+    private static final double ELASTIC_IN_BOUNCES = 6 * Math.PI;
+
+    // Segments of the static Bounce instances, which have 4 bounces.
+    private static final float[] BOUNCE_WIDTHS = {0.68f, 0.34f, 0.2f, 0.15f};
+    private static final float[] BOUNCE_HEIGHTS = {1f, 0.26f, 0.11f, 0.03f};
+
+    private InterpolationSpeeds() {
+    }
+
+    /**
+     * Finds the closed form derivative of an Interpolation.
+     *
+     * @param interpolation The Interpolation.
+     * @param parameter     Filled with the single parameter of the function, if it has one. This is the power of Pow
+     *                      functions, the natural log of value^power of Exp functions, and the internal scale of
+     *                      Swing functions.
+     * @return The function identifier to pass to {@link #speed(int, float, float)}, or {@link #NONE} if the
+     * Interpolation is not supported.
+     */
+    static int identify(Interpolation interpolation, float[] parameter) {
+        Integer function = FUNCTIONS.get(interpolation);
+        if (function != null)
+            return function;
+        Class<?> type = interpolation.getClass();
+        if (type == Interpolation.Pow.class) {
+            parameter[0] = Math.round(Math.log(2 * interpolation.apply(0.25f)) / Math.log(0.5));
+            return POW;
+        }
+        if (type == Interpolation.PowIn.class) {
+            parameter[0] = Math.round(Math.log(interpolation.apply(0.5f)) / Math.log(0.5));
+            return POW_IN;
+        }
+        if (type == Interpolation.PowOut.class) {
+            parameter[0] = Math.round(Math.log(1 - interpolation.apply(0.5f)) / Math.log(0.5));
+            return POW_OUT;
+        }
+        // The Exp functions depend only on value^power, whose square root is recovered here as a log.
+        if (type == Interpolation.Exp.class) {
+            parameter[0] = 2 * (float) Math.log(1 / (2 * interpolation.apply(0.25f)) - 1);
+            return EXP;
+        }
+        if (type == Interpolation.ExpIn.class) {
+            parameter[0] = 2 * (float) Math.log(1 / interpolation.apply(0.5f) - 1);
+            return EXP_IN;
+        }
+        if (type == Interpolation.ExpOut.class) {
+            parameter[0] = 2 * (float) Math.log(1 / (1 - interpolation.apply(0.5f)) - 1);
+            return EXP_OUT;
+        }
+        if (type == Interpolation.Swing.class) {
+            parameter[0] = 1 - 16 * interpolation.apply(0.25f);
+            return SWING;
+        }
+        if (type == Interpolation.SwingIn.class) {
+            parameter[0] = 1 - 8 * interpolation.apply(0.5f);
+            return SWING_IN;
+        }
+        if (type == Interpolation.SwingOut.class) {
+            parameter[0] = 8 * (interpolation.apply(0.5f) - 1) + 1;
+            return SWING_OUT;
+        }
+        return NONE;
+    }
+
+    /**
+     * @param function  The function identifier returned by {@link #identify(Interpolation, float[])}.
+     * @param parameter The parameter filled by {@link #identify(Interpolation, float[])}.
+     * @param a         The progress, clamped between 0 and 1.
+     * @return The derivative of the Interpolation at the given progress. May be infinite where the function is
+     * vertical.
+     */
+    static float speed(int function, float parameter, float a) {
+        switch (function) {
+            case LINEAR:
+                return 1;
+            case SMOOTH:
+                return 6 * a * (1 - a);
+            case SMOOTH2: {
+                float inner = a * a * (3 - 2 * a);
+                return 6 * inner * (1 - inner) * 6 * a * (1 - a);
+            }
+            case SMOOTHER:
+                return 30 * a * a * (a - 1) * (a - 1);
+            case POW: {
+                int power = (int) parameter;
+                if (a <= 0.5f)
+                    return power * (float) Math.pow(a * 2, power - 1);
+                float pow = power * (float) Math.pow((a - 1) * 2, power - 1);
+                return power % 2 == 0 ? -pow : pow;
+            }
+            case POW_IN:
+                return parameter * (float) Math.pow(a, parameter - 1);
+            case POW_OUT: {
+                int power = (int) parameter;
+                float pow = power * (float) Math.pow(a - 1, power - 1);
+                return power % 2 == 0 ? -pow : pow;
+            }
+            case POW2_IN_INVERSE:
+                return 0.5f / (float) Math.sqrt(a);
+            case POW2_OUT_INVERSE:
+                return 0.5f / (float) Math.sqrt(1 - a);
+            case POW3_IN_INVERSE:
+                return 1f / (3 * (float) Math.cbrt(a * a));
+            case POW3_OUT_INVERSE:
+                return 1f / (3 * (float) Math.cbrt((1 - a) * (1 - a)));
+            case SINE:
+                return (float) (Math.PI / 2 * Math.sin(a * Math.PI));
+            case SINE_IN:
+                return (float) (Math.PI / 2 * Math.sin(a * Math.PI / 2));
+            case SINE_OUT:
+                return (float) (Math.PI / 2 * Math.cos(a * Math.PI / 2));
+            case EXP: {
+                double scale = 1 / (1 - Math.exp(-parameter));
+                if (a <= 0.5f)
+                    return (float) (parameter * Math.exp(parameter * (a * 2 - 1)) * scale);
+                return (float) (parameter * Math.exp(-parameter * (a * 2 - 1)) * scale);
+            }
+            case EXP_IN:
+                return (float) (parameter * Math.exp(parameter * (a - 1)) / (1 - Math.exp(-parameter)));
+            case EXP_OUT:
+                return (float) (parameter * Math.exp(-parameter * a) / (1 - Math.exp(-parameter)));
+            case CIRCLE: {
+                float c = a <= 0.5f ? a * 2 : (a - 1) * 2;
+                return Math.abs(c) / (float) Math.sqrt(1 - c * c);
+            }
+            case CIRCLE_IN:
+                return a / (float) Math.sqrt(1 - a * a);
+            case CIRCLE_OUT:
+                return (1 - a) / (float) Math.sqrt(1 - (a - 1) * (a - 1));
+            case ELASTIC:
+                return elastic(a <= 0.5f ? a * 2 : (1 - a) * 2, ELASTIC_BOUNCES);
+            case ELASTIC_IN:
+                return a >= 0.99f ? 0 : elastic(a, ELASTIC_IN_BOUNCES);
+            case ELASTIC_OUT:
+                return a == 0 ? 0 : elastic(1 - a, ELASTIC_BOUNCES);
+            case SWING: {
+                if (a <= 0.5f) {
+                    float c = a * 2;
+                    return 3 * (parameter + 1) * c * c - 2 * parameter * c;
+                }
+                float c = (a - 1) * 2;
+                return 3 * (parameter + 1) * c * c + 2 * parameter * c;
+            }
+            case SWING_IN:
+                return 3 * (parameter + 1) * a * a - 2 * parameter * a;
+            case SWING_OUT: {
+                float c = a - 1;
+                return 3 * (parameter + 1) * c * c + 2 * parameter * c;
+            }
+            case BOUNCE:
+                return a <= 0.5f ? bounce(1 - a * 2) : bounce(a * 2 - 1);
+            case BOUNCE_IN:
+                return bounceOut(1 - a);
+            case BOUNCE_OUT:
+                return bounceOut(a);
+        }
+        return 0;
+    }
+
+    /**
+     * The derivative of the elastic function {@code 2^(10(c - 1)) sin(c * bounces)} with respect to {@code c}, which
+     * is the magnitude of the derivative of each of the Elastic functions.
+     */
+    private static float elastic(float c, double bounces) {
+        double angle = c * bounces;
+        return (float) (Math.exp(ELASTIC_LOG_BASE * (c - 1))
+                * (ELASTIC_LOG_BASE * Math.sin(angle) + bounces * Math.cos(angle)));
+    }
+
+    private static float bounceOut(float a) {
+        a += BOUNCE_WIDTHS[0] / 2;
+        float width = 0, height = 0;
+        for (int i = 0; i < BOUNCE_WIDTHS.length; i++) {
+            width = BOUNCE_WIDTHS[i];
+            if (a <= width) {
+                height = BOUNCE_HEIGHTS[i];
+                break;
+            }
+            a -= width;
+        }
+        return -4 * height * (1 - 2 * (a / width)) / width;
+    }
+
+    /**
+     * The derivative of the half of the Bounce function that each side of it is made from.
+     */
+    private static float bounce(float a) {
+        if (a + BOUNCE_WIDTHS[0] / 2 < BOUNCE_WIDTHS[0])
+            return 2 / BOUNCE_WIDTHS[0];
+        return bounceOut(a);
+    }
+}
@@ -0,0 +1,267 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * Maps target objects by identity to the TargetTweens running on them, so interruptions can be resolved without
+ * visiting every running tween. Every TargetTween in a started hierarchy is registered, including those that a
+ * SequenceTween has not reached yet. A TargetTween with several
+ * {@linkplain TargetTween#getInterruptionTarget(int) interruption targets} is registered once for each of them.
+ */
+final class InterruptionIndex {
+
+    /**
+     * The TargetTweens registered on one target, each with the index of the target among its interruption targets.
+     * Each tween keeps its position in the entries of each of its targets in {@link TargetTween#interruptionSlots}, so
+     * it can be removed without searching.
+     */
+    private static final class Entries {
+        final Array<TargetTween<?, ?>> tweens = new Array<TargetTween<?, ?>>(false, 4);
+        final IntArray indices = new IntArray(false, 4);
+
+        void add(TargetTween<?, ?> tween, int index) {
+            tween.interruptionSlots[index] = tweens.size;
+            tweens.add(tween);
+            indices.add(index);
+        }
+
+        void remove(TargetTween<?, ?> tween, int index) {
+            int slot = tween.interruptionSlots[index];
+            if (slot >= tweens.size || tweens.get(slot) != tween || indices.get(slot) != index)
+                return; // Not registered on this target.
+            int last = tweens.size - 1;
+            if (slot != last) {
+                TargetTween<?, ?> moved = tweens.get(last);
+                int movedIndex = indices.get(last);
+                tweens.set(slot, moved);
+                indices.set(slot, movedIndex);
+                moved.interruptionSlots[movedIndex] = slot;
+            }
+            tweens.removeIndex(last);
+            indices.removeIndex(last);
+        }
+    }
+
+    /**
+     * Used as a stack by {@link #interruptHierarchy(Tween, Class, Object, float[])}, which is not tied to a runner.
+     */
+    private static final Array<TargetTween<?, ?>> hierarchyTargetTweens = new Array<TargetTween<?, ?>>();
+
+    private final IdentityMap<Object, Entries> tweensByTarget = new IdentityMap<Object, Entries>();
+    private final Pool<Entries> entriesPool = new Pool<Entries>() {
+        @Override
+        protected Entries newObject() {
+            return new Entries();
+        }
+    };
+    /**
+     * Used as a stack so listeners called during an interruption can safely start tweens that interrupt others.
+     */
+    private final Array<TargetTween<?, ?>> candidates = new Array<TargetTween<?, ?>>();
+    private final IntArray candidateIndices = new IntArray();
+    private final Array<TargetTween<?, ?>> collected = new Array<TargetTween<?, ?>>();
+    /**
+     * Top level tweens that were canceled by an interruption while parked in a {@link TimingWheel}. The TweenRunner
+     * takes them out of the wheel so they are freed on the next step.
+     */
+    final Array<Tween<?>> canceledParkedTweens = new Array<Tween<?>>(false, 4, Tween.class);
+
+    /**
+     * Adds all the TargetTweens in the hierarchy of a top level tween to the index.
+     *
+     * @param tween A top level tween.
+     */
+    void register(Tween<?> tween) {
+        tween.collectTargetTweens(collected);
+        for (int i = 0, n = collected.size; i < n; i++) {
+            TargetTween<?, ?> targetTween = collected.get(i);
+            if (targetTween.target == null)
+                continue; // Will throw when it begins.
+            int count = targetTween.getInterruptionTargetCount();
+            if (targetTween.interruptionSlots == null || targetTween.interruptionSlots.length < count)
+                targetTween.interruptionSlots = new int[count];
+            for (int j = 0; j < count; j++) {
+                Object target = targetTween.getInterruptionTarget(j);
+                if (target == null)
+                    continue;
+                Entries entries = tweensByTarget.get(target);
+                if (entries == null) {
+                    entries = entriesPool.obtain();
+                    tweensByTarget.put(target, entries);
+                }
+                entries.add(targetTween, j);
+            }
+        }
+        collected.clear();
+    }
+
+    /**
+     * Removes all the TargetTweens in the hierarchy of a top level tween from the index. Must be called before the
+     * tween is freed.
+     *
+     * @param tween A top level tween that was previously registered.
+     */
+    void unregister(Tween<?> tween) {
+        tween.collectTargetTweens(collected);
+        for (int i = 0, n = collected.size; i < n; i++) {
+            TargetTween<?, ?> targetTween = collected.get(i);
+            if (targetTween.target == null)
+                continue;
+            for (int j = 0, count = targetTween.getInterruptionTargetCount(); j < count; j++) {
+                Object target = targetTween.getInterruptionTarget(j);
+                if (target == null)
+                    continue;
+                Entries entries = tweensByTarget.get(target);
+                if (entries == null)
+                    continue;
+                entries.remove(targetTween, j);
+                if (entries.tweens.isEmpty()) {
+                    tweensByTarget.remove(target);
+                    entriesPool.free(entries);
+                }
+            }
+        }
+        collected.clear();
+    }
+
+    /**
+     * Cancels the registered TargetTweens of the given type on the given target. The hierarchy of each interrupted
+     * tween reacts according to its {@link GroupTween#getChildInterruptionBehavior()}. A tween with several
+     * interruption targets may only stop animating the given target, in which case its hierarchy is unaffected.
+     *
+     * @param tweenType            The type of TargetTween that should be interrupted.
+     * @param target               The target object of TargetTweens that should be interrupted.
+     * @param interruptingTween    The tween being started, or null.
+     * @param requestedWorldSpeeds If not null, the world speeds of an interrupted tween that is currently running are
+     *                             filled into this array.
+     * @return True if any top level tween was canceled, or if a tween with several interruption targets stopped
+     * animating only the given one. False if every interrupted tween is the child of a hierarchy that keeps running,
+     * such as one with {@link ChildInterruptionBehavior#MuteChild}.
+     */
+    boolean interrupt(Class<? extends TargetTween<?, ?>> tweenType, Object target, TargetTween<?, ?> interruptingTween,
+                      float[] requestedWorldSpeeds) {
+        if (target == null)
+            return false;
+        Entries entries = tweensByTarget.get(target);
+        if (entries == null)
+            return false;
+
+        // Eligibility is determined up front, as when each hierarchy was searched before any was modified.
+        int start = candidates.size;
+        for (int i = 0, n = entries.tweens.size; i < n; i++) {
+            TargetTween<?, ?> targetTween = entries.tweens.get(i);
+            int index = entries.indices.get(i);
+            if (targetTween.getInterruptionType() == tweenType && isInterruptible(targetTween)
+                    && targetTween.isInterruptionTargetActive(index)) {
+                candidates.add(targetTween);
+                candidateIndices.add(index);
+            }
+        }
+        int end = candidates.size;
+
+        boolean interruption = false;
+        for (int i = start; i < end; i++) {
+            TargetTween<?, ?> targetTween = candidates.get(i);
+            boolean interrupted = targetTween.interruptTarget(candidateIndices.get(i), tweenType, target,
+                    interruptingTween, requestedWorldSpeeds);
+            if (interrupted && !targetTween.isCanceled()) {
+                interruption = true; // Only stopped animating this target.
+                continue;
+            }
+            Tween<?> tween = targetTween;
+            GroupTween<?> parent = targetTween.getParent();
+            while (interrupted && parent != null) {
+                interrupted = parent.handleChildInterruption();
+                tween = parent;
+                parent = parent.getParent();
+            }
+            if (interrupted && tween.isCanceled() && tween.wheelSlot >= 0)
+                canceledParkedTweens.add(tween);
+            interruption |= interrupted;
+        }
+        candidates.truncate(start);
+        candidateIndices.size = start;
+        return interruption;
+    }
+
+    /**
+     * Cancels the TargetTweens of the given type on the given target in the hierarchy of a tween, letting the groups
+     * between each of them and the tween react. This is the search the TweenRunner did before interruptions were
+     * indexed, kept for {@link Tween#checkInterruption(Class, Object, float[])}.
+     *
+     * @param tween                The tween whose hierarchy is searched.
+     * @param tweenType            The type of TargetTween that should be interrupted.
+     * @param target               The target object of TargetTweens that should be interrupted.
+     * @param requestedWorldSpeeds If not null, the world speeds of an interrupted tween that is currently running are
+     *                             filled into this array.
+     * @return True if the given tween was canceled as a result.
+     */
+    static boolean interruptHierarchy(Tween<?> tween, Class<? extends TargetTween<?, ?>> tweenType, Object target,
+                                      float[] requestedWorldSpeeds) {
+        if (target == null)
+            return false;
+        // Listeners called by the groups may start tweens that search again, so only the part after start is used.
+        Array<TargetTween<?, ?>> targetTweens = hierarchyTargetTweens;
+        int start = targetTweens.size;
+        tween.collectTargetTweens(targetTweens);
+        int end = targetTweens.size;
+        boolean interruption = false;
+        for (int i = start; i < end; i++) {
+            TargetTween<?, ?> targetTween = targetTweens.get(i);
+            if (targetTween.getInterruptionType() != tweenType || !isInterruptible(targetTween))
+                continue;
+            for (int j = 0, count = targetTween.getInterruptionTargetCount(); j < count; j++) {
+                if (targetTween.getInterruptionTarget(j) != target || !targetTween.isInterruptionTargetActive(j))
+                    continue;
+                boolean interrupted = targetTween.interruptTarget(j, tweenType, target, null, requestedWorldSpeeds);
+                if (!interrupted || !targetTween.isCanceled())
+                    continue;
+                Tween<?> current = targetTween;
+                while (interrupted && current != tween) {
+                    GroupTween<?> parent = current.getParent();
+                    interrupted = parent.handleChildInterruption();
+                    current = parent;
+                }
+                interruption |= interrupted;
+            }
+        }
+        targetTweens.truncate(start);
+        return interruption;
+    }
+
+    /**
+     * @return Whether the tween would be reached by its top level parent when searching its hierarchy for
+     * interruption: No tween in its chain of parents may be complete, and its top level parent may not be canceled.
+     */
+    private static boolean isInterruptible(TargetTween<?, ?> targetTween) {
+        if (targetTween.isCanceled())
+            return false;
+        Tween<?> tween = targetTween;
+        while (true) {
+            if (tween.isComplete())
+                return false;
+            GroupTween<?> parent = tween.getParent();
+            if (parent == null)
+                return !tween.isCanceled();
+            tween = parent;
+        }
+    }
+}
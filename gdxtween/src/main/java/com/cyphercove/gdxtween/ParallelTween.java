@@ -20,6 +20,9 @@ import com.badlogic.gdx.utils.Pool;
 
 /**
  * A tween that runs its children at the same time. It has the duration of its longest child.
+ * <p>
+ * Children that have completed or been canceled are dropped from the list of children that are stepped, so a parallel
+ * tween with many children of different lengths only costs as much per frame as the children still running.
  */
 public final class ParallelTween extends GroupTween<ParallelTween> {
 
@@ -34,24 +37,81 @@ public final class ParallelTween extends GroupTween<ParallelTween> {
         return POOL.obtain();
     }
 
+    /**
+     * The children that have not completed or been canceled, in the order they were added. Rebuilt when the tween is
+     * started or rewound.
+     */
+    final Array<Tween<?>> liveChildren;
+
     public ParallelTween(int initialCapacity) {
         super(initialCapacity);
+        liveChildren = new Array<Tween<?>>(true, initialCapacity, Tween.class);
     }
 
     @Override
-    protected void update() {
+    void markAttached() {
+        super.markAttached();
+        collectLiveChildren();
+    }
+
+    private void collectLiveChildren() {
+        liveChildren.clear();
         for (Tween<?> tween : children) {
-            if (!tween.isComplete() && !tween.isCanceled()) {
-                tween.goTo(getTime());
-            }
+            if (!tween.isComplete() && !tween.isCanceled())
+                liveChildren.add(tween);
+        }
+    }
+
+    @Override
+    protected void update() {
+        if (updateScheduled())
+            return;
+        float time = getTime();
+        Tween<?>[] live = liveChildren.items;
+        int liveCount = 0;
+        for (int i = 0, n = liveChildren.size; i < n; i++) {
+            Tween<?> tween = live[i];
+            if (!tween.isComplete() && !tween.isCanceled())
+                tween.goTo(time);
+            if (!tween.isComplete() && !tween.isCanceled())
+                live[liveCount++] = tween;
         }
+        liveChildren.truncate(liveCount);
+    }
+
+    @Override
+    void rewind() {
+        if (rewindScheduled())
+            return;
+        float time = getTime();
+        for (int i = children.size - 1; i >= 0; i--) {
+            Tween<?> tween = children.get(i);
+            // At time 0, every child is returned to its start, so those without duration run again.
+            if (tween.isStarted() && (time < tween.getElapsedTime() || time == 0f))
+                tween.seek(time);
+        }
+        collectLiveChildren();
+    }
+
+    @Override
+    float getIdleTime() {
+        if (schedule != null)
+            return schedule.getIdleTime(getTime(), getDuration());
+        if (isPlayingBackward())
+            return 0f;
+        float idleTime = getDuration() - getTime();
+        for (Tween<?> tween : liveChildren) {
+            if (!tween.isComplete() && !tween.isCanceled())
+                idleTime = Math.min(idleTime, tween.getIdleTime());
+        }
+        return idleTime;
     }
 
     @Override
     protected float calculateDuration () {
         float maxDuration = 0f;
         for (Tween<?> tween : children)
-            maxDuration = Math.max(maxDuration, tween.getDuration());
+            maxDuration = Math.max(maxDuration, tween.getTotalDuration());
         return maxDuration;
     }
 
@@ -62,28 +122,10 @@ public final class ParallelTween extends GroupTween<ParallelTween> {
         }
     }
 
-    @Override
-    protected boolean checkInterruption(Class<? extends TargetTween<?, ?>> tweenType, Object target, float[] requestedWorldSpeeds) {
-        // Even if canceled, children should be checked. There might be parallel tweens started that both interrupt
-        // members of this tween, so they will need to get world speeds.
-        boolean wasCanceled = isCanceled();
-        boolean foundInterruption = false;
-        for (Tween<?> tween : children) {
-            if (!tween.isComplete()) {
-                boolean interrupted = tween.checkInterruption(tweenType, target, requestedWorldSpeeds);
-                foundInterruption |= interrupted;
-            }
-        }
-        if (foundInterruption && getChildInterruptionBehavior() == ChildInterruptionBehavior.CancelHierarchy){
-            cancel();
-            return !wasCanceled;
-        }
-        return false;
-    }
-
     @Override
     public void free() {
         super.free();
+        liveChildren.clear();
         POOL.free(this);
     }
 
@@ -33,6 +33,11 @@ public final class SequenceTween extends GroupTween<SequenceTween> {
 
     private int index = 0;
     private float timeAtIndex = 0f;
+    /**
+     * The time each child starts at, followed by the duration of the sequence, so a child can be found by binary
+     * search when seeking.
+     */
+    private float[] startTimes = new float[11];
 
     public SequenceTween(int initialCapacity) {
         super(initialCapacity);
@@ -42,28 +47,95 @@ public final class SequenceTween extends GroupTween<SequenceTween> {
     protected float calculateDuration() {
         float totalDuration = 0f;
         for (Tween<?> tween : children)
-            totalDuration += tween.getDuration();
+            totalDuration += tween.getTotalDuration();
         return totalDuration;
     }
 
+    @Override
+    protected void begin() {
+        super.begin();
+        if (startTimes.length < children.size + 1)
+            startTimes = new float[children.size + 1];
+        float startTime = 0f;
+        for (int i = 0; i < children.size; i++) {
+            startTimes[i] = startTime;
+            startTime += children.get(i).getTotalDuration();
+        }
+        startTimes[children.size] = startTime;
+    }
+
     @Override
     protected void update() {
-        //TODO if in a yo-yo even repeat, work backwards
+        if (updateScheduled())
+            return;
+        // Only moves forward. While playing backward in a yo-yo cycle, the time decreases and rewind() is used.
         float time = getTime();
-        boolean isComplete = isComplete();
+        boolean isAtEnd = time >= getDuration();
         for (int i = index; i < children.size; i++) {
             Tween<?> tween = children.get(i);
             if (!tween.isCanceled())
-                tween.goTo(isComplete ? tween.getDuration() : time - timeAtIndex); // If sequence complete, ensure every child reaches completion, regardless of rounding error.
-            if (tween.isComplete() || (tween.isCanceled() && time > timeAtIndex + tween.getDuration())) {
+                tween.goTo(isAtEnd ? tween.getTotalDuration() : time - timeAtIndex); // If sequence at end, ensure every child reaches completion, regardless of rounding error.
+            if (tween.isComplete() || (tween.isCanceled() && time >= timeAtIndex + tween.getTotalDuration())) {
                 index++;
-                timeAtIndex = Math.min(timeAtIndex + tween.getDuration(), time); // Can't allow timeAtIndex to pass time from rounding error.
+                timeAtIndex = Math.min(startTimes[index], time); // Can't allow timeAtIndex to pass time from rounding error.
             } else {
                 break;
             }
         }
     }
 
+    @Override
+    void rewind() {
+        if (rewindScheduled() || children.size == 0)
+            return;
+        float time = getTime();
+        // The first child that ends after the time, which is the one a forward step to this time would stop at. At
+        // time 0, every child is returned to its start, so children without duration run again.
+        int low = 0, high = time > 0f ? children.size - 1 : 0;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (startTimes[mid + 1] > time)
+                high = mid;
+            else
+                low = mid + 1;
+        }
+        // Children being passed back over are returned to their start, in reverse order so targets shared by several
+        // of them end up with the earliest start values.
+        for (int i = Math.min(index, children.size - 1); i > low; i--) {
+            Tween<?> tween = children.get(i);
+            if (tween.isStarted())
+                tween.seek(0f);
+        }
+        Tween<?> tween = children.get(low);
+        if (tween.isStarted())
+            tween.seek(time - startTimes[low]);
+        index = low;
+        timeAtIndex = startTimes[low];
+    }
+
+    @Override
+    float getIdleTime() {
+        if (schedule != null)
+            return schedule.getIdleTime(getTime(), getDuration());
+        if (isPlayingBackward())
+            return 0f;
+        // Idle through each child that stays idle for its whole span, until one needs stepping sooner or has a listener
+        // to call when it completes.
+        float time = getTime();
+        float idleTime = 0f;
+        for (int i = index; i < children.size; i++) {
+            Tween<?> tween = children.get(i);
+            float remaining = i == index ? timeAtIndex + tween.getTotalDuration() - time : tween.getTotalDuration();
+            float childIdleTime = tween.isCanceled() ? remaining : tween.getIdleTime();
+            if (childIdleTime < remaining || childIdleTime == 0f) // A child without duration still needs its step.
+                return idleTime + childIdleTime;
+            idleTime += remaining;
+            if (!tween.isCanceled() && tween.hasCompletionListener())
+                return idleTime; // Must be stepped when it completes to call the listener.
+        }
+        return idleTime;
+    }
+
     /**
      * Add a new {@link ParallelTween} to this sequence and return it.
      *
@@ -92,24 +164,6 @@ public final class SequenceTween extends GroupTween<SequenceTween> {
             children.first().collectInterrupters(collection);
     }
 
-    @Override
-    protected boolean checkInterruption(Class<? extends TargetTween<?, ?>> tweenType, Object target, float[] requestedWorldSpeeds) {
-        // Even if canceled, children should be checked. There might be parallel tweens started that both interrupt
-        // members of this tween, so they will need to get world speeds.
-        boolean wasCanceled = isCanceled();
-        boolean foundInterruption = false;
-        for (int i = index; i < children.size; i++) {
-            Tween<?> tween = children.get(i);
-            boolean interrupted = tween.checkInterruption(tweenType, target, requestedWorldSpeeds);
-            foundInterruption |= interrupted;
-        }
-        if (foundInterruption && getChildInterruptionBehavior() == ChildInterruptionBehavior.CancelHierarchy) {
-            cancel();
-            return !wasCanceled;
-        }
-        return false;
-    }
-
     @Override
     public void free() {
         super.free();
@@ -37,7 +37,7 @@ public abstract class TargetTween<T, TG> extends Tween<T> {
     /**
      * The start speed that was on the interpolation before blending.
      */
-    private float originalStartSpeed; // TODO Will be used when repeat is used.
+    private float originalStartSpeed;
     /**
      * The start speeds in /s units. Only filled if isBlended.
      */
@@ -54,10 +54,19 @@ public abstract class TargetTween<T, TG> extends Tween<T> {
      * The end values, filled in indirectly by the user before the tween is started.
      */
     private final float[] endValues;
+    /**
+     * The values passed to {@link #applyAll(float[])} while the tween is running.
+     */
+    private final float[] currentValues;
     protected final int vectorSize;
     protected TG target;
     private TweenInterruptionListener<T> interruptionListener;
+    private TweenVisibilityCheck<? super TG> visibilityCheck;
     private float duration = -1f;
+    /**
+     * The position of this tween in the {@link InterruptionIndex} entries of each of its interruption targets.
+     */
+    int[] interruptionSlots;
 
     /**
      * @param vectorSize The number of elements in the vector being modified, or 1 for a scalar.
@@ -68,6 +77,7 @@ public abstract class TargetTween<T, TG> extends Tween<T> {
         startWorldSpeeds = new float[vectorSize];
         startValues = new float[vectorSize];
         endValues = new float[vectorSize];
+        currentValues = new float[vectorSize];
     }
 
     @Override
@@ -82,31 +92,44 @@ public abstract class TargetTween<T, TG> extends Tween<T> {
 
     @Override
     protected void update() {
-        if (isComplete()) {
-            for (int i = 0; i < vectorSize; i++) {
-                apply(i, endValues[i]);
-            }
-            applyAfter();
-            applyAfterComplete();
-            return;
-        }
-        float progress = getTime() / duration;
-        if (isBlended) {
-            Ease.BlendInEase blendInEase = (Ease.BlendInEase) ease;
-            for (int i = 0; i < vectorSize; i++) {
-                blendInEase.startSpeed(startSpeeds[i]);
-                apply(i, ease.apply(progress, startValues[i], endValues[i]));
-            }
+        if (visibilityCheck != null && !isComplete() && !visibilityCheck.isVisible(target))
+            return; // The values depend only on time, so they are correct again as soon as the target is visible.
+        float time = getTime();
+        boolean isAtEnd = time >= duration && (duration > 0f || isComplete());
+        float[] values;
+        if (isAtEnd) {
+            values = endValues;
+        } else if (duration == 0f) {
+            values = startValues; // Rewound to before it ran.
         } else {
-            for (int i = 0; i < vectorSize; i++) {
-                apply(i, ease.apply(progress, startValues[i], endValues[i]));
+            float progress = time / duration;
+            values = currentValues;
+            if (isBlended) {
+                Ease.BlendInEase blendInEase = (Ease.BlendInEase) ease;
+                boolean isFirstCycle = getCycle() == 0;
+                for (int i = 0; i < vectorSize; i++) {
+                    // Only the first cycle starts at the speed of the interrupted tween.
+                    blendInEase.startSpeed(isFirstCycle ? startSpeeds[i] : originalStartSpeed);
+                    values[i] = ease.apply(progress, startValues[i], endValues[i]);
+                }
+            } else {
+                for (int i = 0; i < vectorSize; i++) {
+                    values[i] = ease.apply(progress, startValues[i], endValues[i]);
+                }
             }
         }
+        applyAll(values);
         applyAfter();
+        if (isAtEnd)
+            applyAfterComplete();
     }
 
     /**
      * Called each frame. The new value is given and this method is responsible for applying it to the target.
+     * <p>
+     * It is only called by the default {@link #applyAll(float[])}. Most of the built-in tweens override applyAll to
+     * write to their targets directly, so a subclass of one of them that changes how values are applied must override
+     * applyAll instead.
      *
      * @param vectorIndex The element of the target to apply
      * @param value       The value to apply.
@@ -114,16 +137,30 @@ public abstract class TargetTween<T, TG> extends Tween<T> {
     abstract protected void apply(int vectorIndex, float value);
 
     /**
-     * Called each frame after {@link #apply(int, float)} has been called for all indices of the vector. This can be
+     * Called each frame with the new values of all elements of the vector, which are to be applied to the target. The
+     * default implementation calls {@link #apply(int, float)} for each element. Subclasses can override it to apply the
+     * whole vector with a single call.
+     *
+     * @param values The values to apply, with a length of the vector size. The array must not be modified or retained.
+     */
+    protected void applyAll(float[] values) {
+        for (int i = 0; i < vectorSize; i++) {
+            apply(i, values[i]);
+        }
+    }
+
+    /**
+     * Called each frame after {@link #applyAll(float[])} has been called. This can be
      * used optionally to do any additional work to apply the values to the target object.
      */
     protected void applyAfter() {
     }
 
     /**
-     * Called on the last frame of the tween after {@link #applyAfter()} has been called. This can be
-     * used optionally to to ensure the final target values exactly match the originally set final values if the
-     * calculations used for #{@link #apply(int, float)} having rounding error.
+     * Called on the last frame of the tween after {@link #applyAfter()} has been called, and also whenever a repeating
+     * tween reaches its end values at the end of a cycle. This can be used optionally to to ensure the final target
+     * values exactly match the originally set final values if the calculations used for #{@link #apply(int, float)}
+     * having rounding error.
      */
     protected void applyAfterComplete() {
     }
@@ -287,6 +324,19 @@ public abstract class TargetTween<T, TG> extends Tween<T> {
         startValues[vectorIndex] = value;
     }
 
+    float getStartValue(int vectorIndex) {
+        return startValues[vectorIndex];
+    }
+
+    /**
+     * @return Whether this running tween can be stepped by a {@link TargetTweenBatch}, which only evaluates the ease
+     * between the start and end values.
+     */
+    boolean isBatchable() {
+        return getParent() == null && getRepeatCount() == 0 && !isBlended && visibilityCheck == null && !isComplete()
+                && !isCanceled();
+    }
+
     /**
      * Called by subclasses to set the end values. Protected so more intuitive methods can be exposed.
      *
@@ -326,30 +376,63 @@ public abstract class TargetTween<T, TG> extends Tween<T> {
         return (T) this;
     }
 
+    /**
+     * Sets a check for whether the target is visible. On steps where it is not, the tween keeps advancing but skips
+     * applying values to the target, which saves the cost of animating targets that cannot be seen. When the target
+     * becomes visible again, the tween applies the values for its current time. The tween still
+     * {@linkplain #begin() begins} and applies its end values on completion regardless of visibility.
+     * <p>
+     * See {@link TweenVisibilityCheck} for the threads the check can be called on.
+     *
+     * @param visibilityCheck The visibility check, or null to always apply values.
+     * @return This tween for building.
+     */
+    @SuppressWarnings("unchecked")
+    public T visibilityCheck(TweenVisibilityCheck<? super TG> visibilityCheck) {
+        if (isAttached())
+            logMutationAfterAttachment();
+        else
+            this.visibilityCheck = visibilityCheck;
+        return (T) this;
+    }
+
     /**
      * Fills the current world speeds into the provided array.
      *
      * @param output The array to fill the world speeds into.
      */
     protected final void getWorldSpeeds(float[] output) {
+        getWorldSpeeds(output, 0, vectorSize);
+    }
+
+    /**
+     * Fills the current world speeds of part of the vector into the provided array.
+     *
+     * @param output      The array to fill the world speeds into, starting at its first element.
+     * @param vectorIndex The index of the first element of the vector to get the speed of.
+     * @param count       The number of elements to get the speeds of.
+     */
+    protected final void getWorldSpeeds(float[] output, int vectorIndex, int count) {
         if (isComplete()) {
-            Arrays.fill(output, 0, vectorSize, 0f);
+            Arrays.fill(output, 0, count, 0f);
             return;
         }
         if (!isStarted() || getDuration() == 0f) {
             if (isBlended) {
-                System.arraycopy(startWorldSpeeds, 0, output, 0, vectorSize);
+                System.arraycopy(startWorldSpeeds, vectorIndex, output, 0, count);
             }
-            Arrays.fill(output, 0, vectorSize, 0f);
+            Arrays.fill(output, 0, count, 0f);
             return;
         }
         float progress = getTime() / getDuration();
-        for (int i = 0; i < vectorSize; i++) {
+        float direction = isPlayingBackward() ? -1f : 1f;
+        for (int i = 0; i < count; i++) {
+            int index = vectorIndex + i;
             Ease localEase = getEase();
             if (isBlended) {
-                ((Ease.BlendInEase) localEase).startSpeed(startSpeeds[i]);
+                ((Ease.BlendInEase) localEase).startSpeed(getCycle() == 0 ? startSpeeds[index] : originalStartSpeed);
             }
-            output[i] = localEase.speed(progress, startValues[i], endValues[i]) / getDuration();
+            output[i] = direction * localEase.speed(progress, startValues[index], endValues[index]) / getDuration();
         }
     }
 
@@ -376,16 +459,89 @@ public abstract class TargetTween<T, TG> extends Tween<T> {
         collection.add(this);
     }
 
+    @Override
+    void collectTargetTweens(Array<? super TargetTween<?, ?>> collection) {
+        collection.add(this);
+    }
+
+    /**
+     * @return The type of TargetTween this tween interrupts, and is interrupted by, on each of its
+     * {@linkplain #getInterruptionTarget(int) interruption targets}. By default, this is the class of the tween.
+     */
     @SuppressWarnings("unchecked")
+    protected Class<? extends TargetTween<?, ?>> getInterruptionType() {
+        return (Class<? extends TargetTween<?, ?>>) getClass();
+    }
+
+    /**
+     * @return The number of objects this tween interrupts and can be interrupted on. By default, this is one: the
+     * target.
+     */
+    protected int getInterruptionTargetCount() {
+        return 1;
+    }
+
+    /**
+     * @param index The index of the interruption target, less than {@link #getInterruptionTargetCount()}.
+     * @return An object this tween interrupts tweens of the {@linkplain #getInterruptionType() interruption type} on
+     * when started, and can be interrupted on. By default, this is the target.
+     */
+    protected Object getInterruptionTarget(int index) {
+        return target;
+    }
+
+    /**
+     * @param index The index of the interruption target.
+     * @return Whether the tween is still animating the given interruption target, so it can be interrupted on it.
+     */
+    protected boolean isInterruptionTargetActive(int index) {
+        return true;
+    }
+
+    /**
+     * Called by the TweenRunner when a tween of the {@linkplain #getInterruptionType() interruption type} is started
+     * on one of this tween's interruption targets. The default implementation calls
+     * {@link #checkInterruption(Class, Object, float[])}. A tween with several interruption targets can override this
+     * to stop animating only the given one, and cancel itself once none are left.
+     *
+     * @param index                The index of the interruption target.
+     * @param tweenType            The type of TargetTween that should be interrupted.
+     * @param target               The interruption target object.
+     * @param interruptingTween    The tween being started, or null if the interruption was requested with
+     *                             {@link TweenRunner#interruptTweens(Class, Object)}. A tween that only animates part
+     *                             of its target can use it to ignore tweens on other parts.
+     * @param requestedWorldSpeeds If not null and this tween has started, the current speed on the interruption target
+     *                             is filled into the array. Otherwise, the array is not modified.
+     * @return True if this tween was interrupted on the target. The TweenRunner checks {@link #isCanceled()} to
+     * determine whether the whole tween was interrupted.
+     */
+    protected boolean interruptTarget(int index, Class<? extends TargetTween<?, ?>> tweenType, Object target,
+                                      TargetTween<?, ?> interruptingTween, float[] requestedWorldSpeeds) {
+        return checkInterruption(tweenType, target, requestedWorldSpeeds);
+    }
+
+    /**
+     * Called by the TweenRunner to cancel this tween if it is of a certain type and targets a certain object. If the
+     * source of cancellation is a TargetTween that is able to use the start speeds of the interrupted tween, then world
+     * speeds are also filled into the provided array.
+     *
+     * @param tweenType            The type of TargetTween that that should be interrupted
+     * @param target               The target object that if matched should result in this tween being cancelled.
+     * @param requestedWorldSpeeds If not null and this tween has started, the current speed is filled into the array.
+     *                             Otherwise, the array is not modified.
+     * @return True if this tween was interrupted.
+     */
+    @SuppressWarnings({"unchecked", "deprecation"})
     @Override
-    protected boolean checkInterruption(Class<? extends TargetTween<?, ?>> tweenType, Object target, float[] requestedWorldSpeeds) {
+    protected boolean checkInterruption(Class<? extends TargetTween<?, ?>> tweenType, Object target,
+                                        float[] requestedWorldSpeeds) {
         if (isComplete()) {
             throw new IllegalStateException("Interruption checked on a complete tween: " + this); // TODO remove check
         }
         if (isCanceled()) {
             return false;
         }
-        if (tweenType == getClass() && target == getTarget()) {
+        if (tweenType == getInterruptionType() && target == getTarget()) {
             cancel();
             if (requestedWorldSpeeds != null && isStarted()) {
                 getWorldSpeeds(requestedWorldSpeeds);
@@ -410,6 +566,7 @@ public abstract class TargetTween<T, TG> extends Tween<T> {
         duration = -1f;
         Arrays.fill(endValues, 0f);
         interruptionListener = null;
+        visibilityCheck = null;
     }
 
 }
@@ -0,0 +1,318 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Holds the state of running top level TargetTweens with the same vector size in contiguous arrays, so they can be
+ * stepped in a tight loop instead of through {@link Tween#goTo(float)}. While a tween is in the batch, the batch owns
+ * its time. Completion is still handled by the tween's own {@code goTo}, so end values and listeners behave as usual.
+ * <p>
+ * All tweens in a batch also use the same {@linkplain Ease#kindOf(Ease) kind} of Ease. A step first advances the times
+ * of all tweens, then evaluates the eases of the whole batch in a loop of its own for the kind, and then applies the
+ * values. Built-in eases are evaluated with direct calls to their functions, which can be inlined, instead of
+ * dispatching through {@link Ease#apply(float, float, float)} to whichever eases happen to be running. Wrapped
+ * Interpolations and custom eases are still called virtually, from a call site shared by all batches of their kind.
+ * <p>
+ * This grouping only applies to top level TargetTweens on {@linkplain TweenChannel#batched(boolean) batched}
+ * channels. Other TargetTweens evaluate their eases in {@link TargetTween#update()} through
+ * {@link Ease#apply(float, float, float)}.
+ */
+final class TargetTweenBatch {
+
+    final TweenChannel channel;
+    final int vectorSize;
+    final int easeKind;
+    private TargetTween<?, ?>[] tweens;
+    float[] times;
+    private float[] durations;
+    private float[] startValues, endValues;
+    private Ease[] eases;
+    private float[] progresses;
+    private float[] currentValues;
+    private int size;
+    private final float[] values;
+
+    TargetTweenBatch(TweenChannel channel, int vectorSize, int easeKind) {
+        this.channel = channel;
+        this.vectorSize = vectorSize;
+        this.easeKind = easeKind;
+        values = new float[vectorSize];
+        resize(16);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize(int capacity) {
+        TargetTween<?, ?>[] newTweens = new TargetTween<?, ?>[capacity];
+        float[] newTimes = new float[capacity];
+        float[] newDurations = new float[capacity];
+        float[] newStartValues = new float[capacity * vectorSize];
+        float[] newEndValues = new float[capacity * vectorSize];
+        Ease[] newEases = new Ease[capacity];
+        // Only filled and read within a step, so they don't need copying.
+        progresses = new float[capacity];
+        currentValues = new float[capacity * vectorSize];
+        if (tweens != null) {
+            System.arraycopy(tweens, 0, newTweens, 0, size);
+            System.arraycopy(times, 0, newTimes, 0, size);
+            System.arraycopy(durations, 0, newDurations, 0, size);
+            System.arraycopy(startValues, 0, newStartValues, 0, size * vectorSize);
+            System.arraycopy(endValues, 0, newEndValues, 0, size * vectorSize);
+            System.arraycopy(eases, 0, newEases, 0, size);
+        }
+        tweens = newTweens;
+        times = newTimes;
+        durations = newDurations;
+        startValues = newStartValues;
+        endValues = newEndValues;
+        eases = newEases;
+    }
+
+    /**
+     * Moves a started top level tween into the batch.
+     */
+    void add(TargetTween<?, ?> tween) {
+        if (size == tweens.length)
+            resize(size * 2);
+        int slot = size++;
+        tweens[slot] = tween;
+        times[slot] = tween.getTime();
+        durations[slot] = tween.getDuration();
+        eases[slot] = tween.getEase();
+        int offset = slot * vectorSize;
+        for (int i = 0; i < vectorSize; i++) {
+            startValues[offset + i] = tween.getStartValue(i);
+            endValues[offset + i] = tween.getEndValue(i);
+        }
+        tween.batch = this;
+        tween.batchSlot = slot;
+    }
+
+    /**
+     * Hands the time back to the tween and fills its slot with the last one.
+     */
+    private void remove(int slot) {
+        tweens[slot].leaveBatch();
+        int last = --size;
+        if (slot != last) {
+            TargetTween<?, ?> moved = tweens[last];
+            tweens[slot] = moved;
+            times[slot] = times[last];
+            durations[slot] = durations[last];
+            eases[slot] = eases[last];
+            System.arraycopy(startValues, last * vectorSize, startValues, slot * vectorSize, vectorSize);
+            System.arraycopy(endValues, last * vectorSize, endValues, slot * vectorSize, vectorSize);
+            moved.batchSlot = slot;
+        }
+        tweens[last] = null;
+        eases[last] = null;
+    }
+
+    /**
+     * Moves a tween out of the batch, handing its time back to it.
+     */
+    void remove(TargetTween<?, ?> tween) {
+        remove(tween.batchSlot);
+    }
+
+    /**
+     * Advances all tweens in the batch. Tweens that are canceled or reach their duration are removed from the batch and
+     * added to the output array. Those that reached their duration still need to be completed with
+     * {@link Tween#goTo(float)}, which is left to the caller so listeners are not called while iterating the batch.
+     */
+    void step(float deltaTime, Array<Tween<?>> finished) {
+        advance(deltaTime, finished);
+        switch (easeKind) {
+            case Ease.KIND_LINEAR:
+                evaluateLinear();
+                break;
+            case Ease.KIND_SMOOTHSTEP:
+                evaluateSmoothstep();
+                break;
+            case Ease.KIND_SMOOTHERSTEP:
+                evaluateSmootherstep();
+                break;
+            case Ease.KIND_CUBIC_HERMITE:
+                evaluateCubicHermite();
+                break;
+            case Ease.KIND_QUINTIC_HERMITE:
+                evaluateQuinticHermite();
+                break;
+            case Ease.KIND_BAKED:
+                evaluateBaked();
+                break;
+            case Ease.KIND_INTERPOLATION:
+                evaluateInterpolation();
+                break;
+            default:
+                evaluateOther();
+        }
+        applyValues();
+    }
+
+    /**
+     * Advances the times, removing finished tweens, and fills in the progress of each remaining tween.
+     */
+    private void advance(float deltaTime, Array<Tween<?>> finished) {
+        float[] times = this.times, durations = this.durations, progresses = this.progresses;
+        int slot = 0;
+        while (slot < size) {
+            TargetTween<?, ?> tween = tweens[slot];
+            float time = times[slot] + deltaTime;
+            if (tween.isCanceled() || time >= durations[slot]) {
+                remove(slot);
+                finished.add(tween);
+                continue;
+            }
+            times[slot] = time;
+            progresses[slot] = time / durations[slot];
+            slot++;
+        }
+    }
+
+    private void evaluateLinear() {
+        float[] progresses = this.progresses, startValues = this.startValues, endValues = this.endValues,
+                currentValues = this.currentValues;
+        for (int slot = 0, i = 0; slot < size; slot++) {
+            float progress = progresses[slot];
+            for (int end = i + vectorSize; i < end; i++)
+                currentValues[i] = Ease.applyLinear(progress, startValues[i], endValues[i]);
+        }
+    }
+
+    private void evaluateSmoothstep() {
+        float[] progresses = this.progresses, startValues = this.startValues, endValues = this.endValues,
+                currentValues = this.currentValues;
+        for (int slot = 0, i = 0; slot < size; slot++) {
+            float progress = progresses[slot];
+            for (int end = i + vectorSize; i < end; i++)
+                currentValues[i] = Ease.applySmoothstep(progress, startValues[i], endValues[i]);
+        }
+    }
+
+    private void evaluateSmootherstep() {
+        float[] progresses = this.progresses, startValues = this.startValues, endValues = this.endValues,
+                currentValues = this.currentValues;
+        for (int slot = 0, i = 0; slot < size; slot++) {
+            float progress = progresses[slot];
+            for (int end = i + vectorSize; i < end; i++)
+                currentValues[i] = Ease.applySmootherstep(progress, startValues[i], endValues[i]);
+        }
+    }
+
+    private void evaluateCubicHermite() {
+        float[] progresses = this.progresses, startValues = this.startValues, endValues = this.endValues,
+                currentValues = this.currentValues;
+        for (int slot = 0, i = 0; slot < size; slot++) {
+            Ease.CubicHermite cubic = (Ease.CubicHermite) eases[slot];
+            float progress = progresses[slot], startSpeed = cubic.startSpeed, endSpeed = cubic.endSpeed;
+            for (int end = i + vectorSize; i < end; i++)
+                currentValues[i] = Ease.applyCubicHermite(progress, startValues[i], endValues[i], startSpeed, endSpeed);
+        }
+    }
+
+    private void evaluateQuinticHermite() {
+        float[] progresses = this.progresses, startValues = this.startValues, endValues = this.endValues,
+                currentValues = this.currentValues;
+        for (int slot = 0, i = 0; slot < size; slot++) {
+            Ease.QuinticHermite quintic = (Ease.QuinticHermite) eases[slot];
+            float progress = progresses[slot], startSpeed = quintic.startSpeed, endSpeed = quintic.endSpeed;
+            for (int end = i + vectorSize; i < end; i++)
+                currentValues[i] = Ease.applyQuinticHermite(progress, startValues[i], endValues[i], startSpeed,
+                        endSpeed);
+        }
+    }
+
+    private void evaluateBaked() {
+        float[] progresses = this.progresses, startValues = this.startValues, endValues = this.endValues,
+                currentValues = this.currentValues;
+        for (int slot = 0, i = 0; slot < size; slot++) {
+            Ease.BakedEase baked = (Ease.BakedEase) eases[slot];
+            float progress = progresses[slot];
+            for (int end = i + vectorSize; i < end; i++)
+                currentValues[i] = baked.apply(progress, startValues[i], endValues[i]);
+        }
+    }
+
+    private void evaluateInterpolation() {
+        float[] progresses = this.progresses, startValues = this.startValues, endValues = this.endValues,
+                currentValues = this.currentValues;
+        for (int slot = 0, i = 0; slot < size; slot++) {
+            Interpolation interpolation = ((Ease.InterpolationWrapper) eases[slot]).interpolation;
+            float progress = progresses[slot];
+            for (int end = i + vectorSize; i < end; i++)
+                currentValues[i] = interpolation.apply(startValues[i], endValues[i], progress);
+        }
+    }
+
+    private void evaluateOther() {
+        float[] progresses = this.progresses, startValues = this.startValues, endValues = this.endValues,
+                currentValues = this.currentValues;
+        for (int slot = 0, i = 0; slot < size; slot++) {
+            Ease ease = eases[slot];
+            float progress = progresses[slot];
+            for (int end = i + vectorSize; i < end; i++)
+                currentValues[i] = ease.apply(progress, startValues[i], endValues[i]);
+        }
+    }
+
+    private void applyValues() {
+        float[] values = this.values, currentValues = this.currentValues;
+        for (int slot = 0; slot < size; slot++) {
+            TargetTween<?, ?> tween = tweens[slot];
+            System.arraycopy(currentValues, slot * vectorSize, values, 0, vectorSize);
+            tween.applyAll(values);
+            tween.applyAfter();
+        }
+    }
+
+    /**
+     * Moves all tweens out of the batch, handing their times back to them.
+     */
+    void drain(Array<Tween<?>> output) {
+        for (int slot = 0; slot < size; slot++) {
+            TargetTween<?, ?> tween = tweens[slot];
+            tween.leaveBatch();
+            output.add(tween);
+            tweens[slot] = null;
+            eases[slot] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Cancels all tweens in the batch. They are removed on the next step.
+     */
+    void cancelAll() {
+        for (int slot = 0; slot < size; slot++) {
+            tweens[slot].cancel();
+        }
+    }
+
+    /**
+     * Adds all tweens in the batch to the output array without removing them.
+     */
+    void collect(Array<Tween<?>> output) {
+        for (int slot = 0; slot < size; slot++) {
+            output.add(tweens[slot]);
+        }
+    }
+}
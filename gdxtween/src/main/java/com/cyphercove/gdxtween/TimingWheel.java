@@ -0,0 +1,207 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * A hierarchical timing wheel holding parked top level tweens until their {@link Tween#wakeClock} is reached. Each of
+ * the {@value #LEVELS} levels has {@value #SLOTS} slots, and each slot of a level spans a full rotation of the level
+ * below it. The lowest level has a resolution of {@value #TICKS_PER_SECOND} ticks per second. Tweens due further out
+ * than the top level can represent are kept in its last slot and re-sorted as it comes around.
+ * <p>
+ * Tweens are only released once the clock has reached their exact wake time, so tweens due within the current tick
+ * wait in a short list that is checked on every advance.
+ */
+final class TimingWheel {
+
+    private static final int LEVELS = 4;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int TICKS_PER_SECOND = 64;
+    /**
+     * {@link Tween#wheelSlot} value for tweens waiting within the current tick.
+     */
+    private static final int DUE_SLOT = LEVELS * SLOTS;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final Array<Tween<?>>[] slots = new Array[LEVELS * SLOTS + 1];
+    private final Array<Tween<?>> cascade = new Array<Tween<?>>(false, 16, Tween.class);
+    private long currentTick;
+    private int size;
+
+    TimingWheel() {
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = new Array<Tween<?>>(false, 4, Tween.class);
+        }
+    }
+
+    private static long toTick(double clock) {
+        return (long) Math.floor(clock * TICKS_PER_SECOND);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Adds a tween whose {@link Tween#wakeClock} has been set.
+     */
+    void add(Tween<?> tween) {
+        place(tween);
+        size++;
+    }
+
+    private void place(Tween<?> tween) {
+        long ticksAway = toTick(tween.wakeClock) - currentTick;
+        int slot;
+        if (ticksAway <= 0) {
+            slot = DUE_SLOT;
+        } else {
+            long dueTick = currentTick + ticksAway;
+            int level = 0;
+            while (level < LEVELS - 1 && ticksAway >= 1L << (SLOT_BITS * (level + 1)))
+                level++;
+            if (level == LEVELS - 1 && ticksAway >= 1L << (SLOT_BITS * LEVELS)) {
+                // Beyond the range of the top level. Park in the top level slot that comes around last.
+                slot = level * SLOTS + (int) (((currentTick >> (SLOT_BITS * level)) - 1) & SLOT_MASK);
+            } else {
+                slot = level * SLOTS + (int) ((dueTick >> (SLOT_BITS * level)) & SLOT_MASK);
+            }
+        }
+        tween.wheelSlot = slot;
+        slots[slot].add(tween);
+    }
+
+    /**
+     * Removes a tween before it is due.
+     */
+    void remove(Tween<?> tween) {
+        if (slots[tween.wheelSlot].removeValue(tween, true))
+            size--;
+        tween.wheelSlot = -1;
+    }
+
+    /**
+     * Advances the wheel to the given clock time and moves all tweens that are now due into the output array.
+     *
+     * @param clock  The new clock time. Must not be less than the clock time of the previous advance.
+     * @param output The array the due tweens are added to.
+     */
+    void advance(double clock, Array<Tween<?>> output) {
+        if (size == 0) {
+            currentTick = toTick(clock);
+            return;
+        }
+        long targetTick = toTick(clock);
+        if (targetTick - currentTick >= SLOTS) {
+            // A long jump. Re-sorting everything is cheaper than visiting every tick.
+            for (int i = 0; i < DUE_SLOT; i++) {
+                cascade.addAll(slots[i]);
+                slots[i].clear();
+            }
+            currentTick = targetTick;
+            for (int i = 0; i < cascade.size; i++) {
+                place(cascade.get(i));
+            }
+            cascade.clear();
+        } else {
+            while (currentTick < targetTick) {
+                currentTick++;
+                for (int level = 1; level < LEVELS; level++) {
+                    if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) != 0)
+                        break;
+                    cascade(level * SLOTS + (int) ((currentTick >> (SLOT_BITS * level)) & SLOT_MASK));
+                }
+                cascade((int) (currentTick & SLOT_MASK));
+            }
+        }
+
+        Array<Tween<?>> dueTweens = slots[DUE_SLOT];
+        for (int i = dueTweens.size - 1; i >= 0; i--) {
+            Tween<?> tween = dueTweens.get(i);
+            if (tween.wakeClock <= clock) {
+                dueTweens.removeIndex(i);
+                tween.wheelSlot = -1;
+                output.add(tween);
+                size--;
+            }
+        }
+    }
+
+    /**
+     * @return The earliest wake clock time of the tweens in the wheel, or positive infinity if it is empty.
+     */
+    double getEarliestWakeClock() {
+        double earliest = Double.POSITIVE_INFINITY;
+        Array<Tween<?>> dueTweens = slots[DUE_SLOT];
+        for (int i = 0; i < dueTweens.size; i++) {
+            earliest = Math.min(earliest, dueTweens.get(i).wakeClock);
+        }
+        // Within a level, slots are due in rotation order starting after the current one, so only the first
+        // occupied slot of each level needs to be searched.
+        for (int level = 0; level < LEVELS; level++) {
+            int current = (int) ((currentTick >> (SLOT_BITS * level)) & SLOT_MASK);
+            for (int j = 1; j <= SLOTS; j++) {
+                Array<Tween<?>> array = slots[level * SLOTS + ((current + j) & SLOT_MASK)];
+                if (array.notEmpty()) {
+                    for (int i = 0; i < array.size; i++) {
+                        earliest = Math.min(earliest, array.get(i).wakeClock);
+                    }
+                    break;
+                }
+            }
+        }
+        return earliest;
+    }
+
+    private void cascade(int slot) {
+        Array<Tween<?>> array = slots[slot];
+        if (array.isEmpty())
+            return;
+        cascade.addAll(array);
+        array.clear();
+        for (int i = 0; i < cascade.size; i++) {
+            place(cascade.get(i));
+        }
+        cascade.clear();
+    }
+
+    /**
+     * Adds all tweens in the wheel to the output array without removing them.
+     */
+    void collect(Array<Tween<?>> output) {
+        for (int i = 0; i < slots.length; i++) {
+            output.addAll(slots[i]);
+        }
+    }
+
+    /**
+     * Moves all tweens in the wheel into the output array.
+     */
+    void drain(Array<Tween<?>> output) {
+        for (int i = 0; i < slots.length; i++) {
+            Array<Tween<?>> array = slots[i];
+            for (int j = 0; j < array.size; j++) {
+                array.get(j).wheelSlot = -1;
+            }
+            output.addAll(array);
+            array.clear();
+        }
+        size = 0;
+    }
+}
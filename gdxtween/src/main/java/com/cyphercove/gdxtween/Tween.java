@@ -28,13 +28,54 @@ import com.badlogic.gdx.utils.Array;
  */
 public abstract class Tween<U> {
 
+    /**
+     * Repeat count for a tween that repeats until it is canceled or interrupted.
+     *
+     * @see #repeat(int)
+     */
+    public static final int INFINITE = -1;
+
     private static final String DEFAULT_NAME = "Unnamed";
+    /**
+     * The number of TweenRunners that are currently stepping tweens on several threads.
+     */
+    private static volatile int parallelStepCount;
 
-    private boolean isAttached, isStarted, isComplete, isCanceled;
+    private boolean isAttached, isStarted, isComplete, isCanceled, isPriority, isYoyo;
     private float time;
+    private int repeatCount;
+    /**
+     * The index of the current cycle. For a top level tween that repeats infinitely, it wraps around so only its
+     * parity is kept, which keeps the elapsed time small.
+     */
+    private int cycle;
     private String name = DEFAULT_NAME;
     private TweenCompletionListener<U> completionListener;
     private GroupTween<?> parent = null;
+    /**
+     * If set on a top level tween, completions in its hierarchy are queued here instead of calling the completion
+     * listeners. The TweenRunner uses this when stepping tweens on other threads.
+     */
+    Array<Tween<?>> completionQueue;
+    /**
+     * Bookkeeping for a top level tween parked in a {@link TimingWheel}: its channel, the channel clock when it was
+     * parked and when it is due, and its slot in the wheel, or -1 if it is not parked.
+     */
+    TweenChannel parkedChannel;
+    double parkedClock, wakeClock;
+    int wheelSlot = -1;
+    /**
+     * Time a top level tween has missed while deferred by the TweenRunner's step budget, to be made up on its next
+     * step, and whether it was deferred on the previous step.
+     */
+    float deferredTime;
+    boolean wasDeferred;
+    /**
+     * The batch holding the state of this top level tween and its slot in it, if any. While set, the batch owns the
+     * tween's time.
+     */
+    TargetTweenBatch batch;
+    int batchSlot;
 
     /**
      * Whether the tween has been attached to a TweenRunner or to a parent. A tween must not be modified after
@@ -57,6 +98,17 @@ public abstract class Tween<U> {
         tweenRunner.start(this);
     }
 
+    /**
+     * Submits the tween to the TweenRunner to start it on the given channel. A Tween can only be submitted one time to
+     * one TweenRunner.
+     *
+     * @param tweenRunner The {@link TweenRunner} to run this Tween.
+     * @param channel     The number of the {@link TweenChannel} to run this Tween on.
+     */
+    public final void start(TweenRunner tweenRunner, int channel) {
+        tweenRunner.start(this, channel);
+    }
+
     /**
      * Gets the parent of this tween, or null if there is none.
      *
@@ -86,9 +138,10 @@ public abstract class Tween<U> {
     }
 
     /**
-     * Sets the tween's time to a specific value.
+     * Sets the tween's elapsed time to a specific value. Cycles that are passed over are finished, and the tween is
+     * returned to its start for each new cycle unless it yo-yos, but whole pairs of cycles in between are skipped.
      *
-     * @param newTime The target time to set.
+     * @param newTime The target elapsed time to set.
      */
     @SuppressWarnings("unchecked")
     final void goTo(float newTime) {
@@ -99,23 +152,123 @@ public abstract class Tween<U> {
             begin();
             isStarted = true;
         }
-        time = Math.min(getDuration(), newTime); //TODO with repeat behavior, the time can loop. If it yo-yos, the time can be as much as twice the duration.
-        if (time >= getDuration()) { //TODO after adding repeat modes, criteria for completion will change.
-            isComplete = true;
-            time = getDuration(); // Clamp interpolation to hit end values exactly.
-            //TODO yo yo with even number of repeats will end at 0 time.
+        float duration = getDuration();
+        boolean complete = newTime >= getTotalDuration();
+        int newCycle;
+        float cycleTime;
+        if (complete) {
+            newCycle = duration == 0f ? 0 : repeatCount;
+            cycleTime = duration; // Clamp interpolation to hit end values exactly.
+        } else {
+            newCycle = Math.max(cycle, getCycleAt(newTime)); // Time only moves forward here, despite rounding error.
+            cycleTime = Math.max(0f, Math.min(duration, newTime - newCycle * duration));
         }
-        if (!isCanceled)
-            update();
+        while (cycle < newCycle) {
+            moveInCycle(isPlayingBackward() ? 0f : duration);
+            cycle += 1 + ((newCycle - cycle - 1) & ~1);
+            if (!isYoyo)
+                moveInCycle(0f);
+        }
+        isComplete = complete;
+        moveInCycle(isPlayingBackward() ? duration - cycleTime : cycleTime);
+        wrapCycle();
         if (isComplete && completionListener != null) {
-            completionListener.onTweenComplete((U) this);
+            Array<Tween<?>> queue = getTopLevelParent().completionQueue;
+            if (queue != null)
+                queue.add(this);
+            else
+                completionListener.onTweenComplete((U) this);
         }
     }
 
+    /**
+     * Moves the tween's elapsed time directly to a new time, forward or backward. Moving forward is the same as
+     * {@link #goTo(float)}. Moving backward, or to the same time, makes the tween incomplete again if it was complete,
+     * and its state is set again for the new time with {@link #rewind()}, or with {@link #update()} if the time moves
+     * forward within a backward yo-yo cycle.
+     *
+     * @param newTime The elapsed time to move to. It is clamped between 0 and the total duration.
+     */
+    final void seek(float newTime) {
+        float totalDuration = getTotalDuration();
+        newTime = Math.max(0f, Math.min(totalDuration, newTime));
+        deferredTime = 0f;
+        if (isComplete && newTime >= totalDuration && totalDuration > 0f)
+            return;
+        if (!isComplete && (newTime > getElapsedTime() || !isStarted)) {
+            goTo(newTime);
+            return;
+        }
+        isComplete = false;
+        float duration = getDuration();
+        cycle = getCycleAt(newTime);
+        float cycleTime = Math.max(0f, Math.min(duration, newTime - cycle * duration));
+        float newCycleTime = isPlayingBackward() ? duration - cycleTime : cycleTime;
+        if (newCycleTime > time) {
+            moveInCycle(newCycleTime);
+        } else {
+            // Also when the time does not change, such as for a completed tween without duration.
+            time = newCycleTime;
+            if (!isCanceled)
+                rewind();
+        }
+        wrapCycle();
+    }
+
+    /**
+     * @return The index of the cycle that is running at the given elapsed time, which must be less than the total
+     * duration.
+     */
+    private int getCycleAt(float elapsedTime) {
+        float duration = getDuration();
+        if (repeatCount == 0 || duration == 0f)
+            return 0;
+        int cycle = (int) (elapsedTime / duration);
+        return repeatCount == INFINITE ? cycle : Math.min(cycle, repeatCount);
+    }
+
+    /**
+     * Moves the time within the current cycle, applying the state with {@link #update()} if it moves forward or
+     * {@link #rewind()} if it moves backward.
+     */
+    private void moveInCycle(float newTime) {
+        boolean forward = newTime >= time;
+        time = newTime;
+        if (isCanceled)
+            return;
+        if (forward)
+            update();
+        else
+            rewind();
+    }
+
+    private void wrapCycle() {
+        if (repeatCount == INFINITE && parent == null)
+            cycle &= 1;
+    }
+
+    /**
+     * Called when the time of a started tween has moved backward, by {@link #seek(float)} or while playing backward in
+     * a yo-yo cycle. Applies the state for the new {@linkplain #getTime() time}. By default, this calls
+     * {@link #update()}.
+     */
+    void rewind() {
+        update();
+    }
+
+    /**
+     * Calls the completion listener of a completed tween whose completion was queued.
+     */
+    @SuppressWarnings("unchecked")
+    final void notifyQueuedCompletion() {
+        if (completionListener != null)
+            completionListener.onTweenComplete((U) this);
+    }
+
     /**
      * Called after each time step if not muted. This is where the new {@link #getTime()} time} should be applied. If
      * {@link #isComplete()}, this is the last time this method will be called for this tween. The completion listener
-     * is called after this method.
+     * is called after this method. It is also called when a repeating tween reaches the end of a cycle.
      */
     protected abstract void update();
 
@@ -147,21 +300,155 @@ public abstract class Tween<U> {
     }
 
     /**
-     * The set length of this tween.
+     * @return Whether this tween is never deferred by the TweenRunner's step budget.
+     * @see #priority(boolean)
+     */
+    public final boolean isPriority() {
+        return isPriority;
+    }
+
+    /**
+     * Sets whether this tween is exempt from the TweenRunner's step budget, so it is always stepped on every frame and
+     * begins on its first step. Only has an effect on top level tweens.
+     *
+     * @param priority Whether this tween should never be deferred.
+     * @return This tween for chaining.
+     * @see TweenRunner#setStepBudget(int, long)
+     */
+    @SuppressWarnings("unchecked")
+    public final U priority(boolean priority) {
+        if (isAttached)
+            logMutationAfterAttachment();
+        else
+            this.isPriority = priority;
+        return (U) this;
+    }
+
+    /**
+     * @return How many times this tween repeats after it first plays, or {@link #INFINITE}.
+     * @see #repeat(int)
+     */
+    public final int getRepeatCount() {
+        return repeatCount;
+    }
+
+    /**
+     * Sets how many times this tween plays again after it first plays. Each cycle reuses the same start values, and
+     * a GroupTween replays the same children, so nothing is obtained from the pools or captured again. The completion
+     * listener is only called after the last cycle. Only a top level tween or a child of a ParallelTween should repeat
+     * infinitely, because a SequenceTween never reaches the children after it.
+     *
+     * @param count The number of repeats, or {@link #INFINITE} to repeat until canceled or interrupted.
+     * @return This tween for chaining.
+     * @see #yoyo(boolean)
+     */
+    @SuppressWarnings("unchecked")
+    public final U repeat(int count) {
+        if (count < INFINITE)
+            throw new IllegalArgumentException("count must not be negative, or must be INFINITE.");
+        if (isAttached)
+            logMutationAfterAttachment();
+        else
+            this.repeatCount = count;
+        return (U) this;
+    }
+
+    /**
+     * @return Whether every other cycle of this tween plays backward.
+     * @see #yoyo(boolean)
+     */
+    public final boolean isYoyo() {
+        return isYoyo;
+    }
+
+    /**
+     * Sets whether every other repeat of this tween plays backward instead of starting over, so the tween goes back and
+     * forth. A SequenceTween plays its children in reverse order on the backward cycles. A yo-yo tween with an odd
+     * number of repeats ends where it started. Has no effect unless {@link #repeat(int)} is used.
+     *
+     * @param yoyo Whether to alternate directions.
+     * @return This tween for chaining.
+     */
+    @SuppressWarnings("unchecked")
+    public final U yoyo(boolean yoyo) {
+        if (isAttached)
+            logMutationAfterAttachment();
+        else
+            this.isYoyo = yoyo;
+        return (U) this;
+    }
+
+    /**
+     * @return Whether the current cycle plays backward.
+     */
+    final boolean isPlayingBackward() {
+        return isYoyo && (cycle & 1) == 1;
+    }
+
+    /**
+     * @return The index of the current cycle, starting from 0. For a top level tween that repeats infinitely, only its
+     * parity is kept.
+     */
+    final int getCycle() {
+        return cycle;
+    }
+
+    /**
+     * The set length of one cycle of this tween.
      *
      * @return This tween's length.
+     * @see #getTotalDuration()
      */
     public abstract float getDuration();
 
     /**
-     * The currrent time in the tween's life.
+     * The length of this tween including its repeats.
+     *
+     * @return The total length, or positive infinity if the tween repeats infinitely.
+     */
+    public final float getTotalDuration() {
+        float duration = getDuration();
+        if (repeatCount == 0 || duration == 0f)
+            return duration;
+        if (repeatCount == INFINITE)
+            return Float.POSITIVE_INFINITY;
+        return duration * (repeatCount + 1);
+    }
+
+    /**
+     * The currrent time in the tween's life. For a repeating tween, this is the time within the current cycle, which
+     * decreases during the backward cycles of a yo-yo.
      *
      * @return The time.
      */
     public final float getTime() {
+        if (batch != null)
+            return batch.times[batchSlot];
         return time;
     }
 
+    /**
+     * The time that has passed in the tween's life including any previous cycles. For a top level tween that repeats
+     * infinitely, it is kept within the first two cycles.
+     *
+     * @return The elapsed time.
+     */
+    public final float getElapsedTime() {
+        float time = getTime();
+        if (cycle == 0)
+            return time;
+        float duration = getDuration();
+        return cycle * duration + (isPlayingBackward() ? duration - time : time);
+    }
+
+    /**
+     * Takes back ownership of the time from the batch holding this tween.
+     */
+    final void leaveBatch() {
+        time = batch.times[batchSlot];
+        batch = null;
+    }
+
     /**
      * Whether the tween has started running.
      *
@@ -213,6 +500,24 @@ public abstract class Tween<U> {
         return (U) this;
     }
 
+    /**
+     * @return Whether a completion listener is set.
+     */
+    final boolean hasCompletionListener() {
+        return completionListener != null;
+    }
+
+    /**
+     * Returns how much further this tween's time can advance before it next needs to be stepped, that is, before it
+     * would begin, modify a target, or complete. Stepping it over this span in a single {@link #goTo(float)} has the
+     * same effect as stepping it frame by frame. The TweenRunner uses this to park idle tweens.
+     *
+     * @return The time until this tween next needs to be stepped, or 0 if it must be stepped every frame.
+     */
+    float getIdleTime() {
+        return 0f;
+    }
+
     /**
      * Add all interruption-eligible TargetTweens to the collection, including self if it is one.
      *
@@ -225,6 +530,9 @@ public abstract class Tween<U> {
      * {@link TargetTween} that is able to use the start speeds of the interrupted tween, then world speeds should also
      * be filled into the provided array. If this tween is a match for cancellation, {@link #cancel()} should be called
      * and true returned.
+     * <p>
+     * The default implementation searches the TargetTweens in this tween's hierarchy, and the groups in between react
+     * according to their {@link GroupTween#getChildInterruptionBehavior()}.
      *
      * @param tweenType            The type of TargetTween that that should be interrupted
      * @param target               The target object that if matched should result in this tween being cancelled.
@@ -232,8 +540,24 @@ public abstract class Tween<U> {
      *                             interpolated by a TargetingTween of the same type, then the current speed should be filled
      *                             into the array. Otherwise, the array should not be modified.
      * @return True if this tween was interrupted.
+     * @deprecated The TweenRunner no longer searches tween hierarchies to find interrupted tweens, so this is not called
+     * on GroupTweens or other tweens without a target. It looks up the running TargetTweens on the target of each
+     * started TargetTween and calls {@link TargetTween#interruptTarget(int, Class, Object, TargetTween, float[])},
+     * which calls {@link TargetTween#checkInterruption(Class, Object, float[])} by default.
+     */
+    @Deprecated
+    protected boolean checkInterruption(Class<? extends TargetTween<?, ?>> tweenType, Object target, float[] requestedWorldSpeeds) {
+        return InterruptionIndex.interruptHierarchy(this, tweenType, target, requestedWorldSpeeds);
+    }
+
+    /**
+     * Add all TargetTweens in this tween's hierarchy to the collection, including self if it is one. Unlike
+     * {@link #collectInterrupters(Array)}, this includes every descendant, regardless of when it will run.
+     *
+     * @param collection The collection to add the TargetTween(s) to.
      */
-    protected abstract boolean checkInterruption(Class<? extends TargetTween<?, ?>> tweenType, Object target, float[] requestedWorldSpeeds);
+    void collectTargetTweens(Array<? super TargetTween<?, ?>> collection) {
+    }
 
     /**
      * Returns this Tween to its pool when it is no longer used to avoid releasing it to the garbage collector. This is
@@ -248,10 +572,36 @@ public abstract class Tween<U> {
         isComplete = false;
         isStarted = false;
         isCanceled = false;
+        isPriority = false;
+        isYoyo = false;
         name = DEFAULT_NAME;
         time = 0f;
+        repeatCount = 0;
+        cycle = 0;
         completionListener = null;
         parent = null;
+        parkedChannel = null;
+        wheelSlot = -1;
+        deferredTime = 0f;
+        wasDeferred = false;
+        batch = null;
+    }
+
+    static synchronized void parallelStepStarted() {
+        parallelStepCount++;
+    }
+
+    static synchronized void parallelStepFinished() {
+        parallelStepCount--;
+    }
+
+    /**
+     * @return Whether any TweenRunner is currently stepping tweens on several threads, as set up with
+     * {@link TweenRunner#setParallelStepping}. Objects shared by tweens in different hierarchies only need to
+     * synchronize while this is true.
+     */
+    protected static boolean isSteppingInParallel() {
+        return parallelStepCount > 0;
     }
 
     protected final void logMutationAfterAttachment() {
@@ -259,6 +609,20 @@ public abstract class Tween<U> {
                 "or the TweenRunner, and this call will be ignored. Tween: " + getName());
     }
 
+    /**
+     * For setters of subclasses. Logs a warning if the tween has already been attached, in which case the call must
+     * be ignored.
+     *
+     * @return True if the tween has not been attached yet, so it may be modified.
+     */
+    protected final boolean checkModifiable() {
+        if (isAttached) {
+            logMutationAfterAttachment();
+            return false;
+        }
+        return true;
+    }
+
     /**
      * Returns a SequenceTween that contains this tween at the end. If this tween is already a child of a SequenceTween,
      * then that parent is returned. Otherwise, a new SequenceTween is obtained and this tween is added to it.
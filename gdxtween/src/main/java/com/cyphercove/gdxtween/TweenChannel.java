@@ -0,0 +1,165 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * A numbered group of top level tweens in a {@link TweenRunner} that share a time scale and can be paused together.
+ * Obtain one with {@link TweenRunner#getChannel(int)} and start tweens on it with
+ * {@link TweenRunner#start(Tween, int)}.
+ * <p>
+ * A paused channel is skipped entirely when the TweenRunner steps, so its tweens cost nothing until it is resumed.
+ */
+public final class TweenChannel {
+
+    private final int id;
+    private float timeScale = 1f;
+    private boolean isPaused;
+    private boolean isBatched;
+
+    final Array<Tween<?>> tweens = new Array<Tween<?>>(true, 64, Tween.class);
+    /**
+     * Tweens started on this channel while the TweenRunner is stepping. They are added to {@link #tweens} after the
+     * step so listeners can start tweens without disturbing the iteration.
+     */
+    final Array<Tween<?>> pendingTweens = new Array<Tween<?>>(true, 16, Tween.class);
+    /**
+     * Idle tweens parked until they need stepping again. See {@link TweenRunner#setParkingThreshold(float)}.
+     */
+    final TimingWheel wheel = new TimingWheel();
+    /**
+     * The total scaled time this channel has been stepped by.
+     */
+    double clock;
+    /**
+     * Running top level TargetTweens stepped in batches, one per combination of vector size and
+     * {@linkplain Ease#kindOf(Ease) ease kind}. See {@link #batched(boolean)}.
+     */
+    final Array<TargetTweenBatch> batches = new Array<TargetTweenBatch>(false, 4, TargetTweenBatch.class);
+
+    TweenChannel(int id) {
+        this.id = id;
+    }
+
+    /**
+     * @return The number identifying this channel in its TweenRunner.
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @return The multiplier applied to the time passed to {@link TweenRunner#step(float)} for tweens on this channel.
+     */
+    public float getTimeScale() {
+        return timeScale;
+    }
+
+    /**
+     * Sets the multiplier applied to the time passed to {@link TweenRunner#step(float)} for tweens on this channel.
+     * For example, 0.5 plays the channel's tweens in slow motion at half speed.
+     *
+     * @param timeScale The multiplier. Must not be negative.
+     * @return This channel for chaining.
+     */
+    public TweenChannel timeScale(float timeScale) {
+        if (timeScale < 0f)
+            throw new IllegalArgumentException("timeScale must not be negative.");
+        this.timeScale = timeScale;
+        return this;
+    }
+
+    /**
+     * @return Whether this channel is paused.
+     */
+    public boolean isPaused() {
+        return isPaused;
+    }
+
+    /**
+     * Pauses or resumes this channel. While paused, the channel's tweens are not stepped at all, and finished tweens
+     * are not freed until the channel is resumed. Tweens can still be started on a paused channel and can still be
+     * interrupted.
+     *
+     * @param paused Whether the channel should be paused.
+     * @return This channel for chaining.
+     */
+    public TweenChannel paused(boolean paused) {
+        this.isPaused = paused;
+        return this;
+    }
+
+    /**
+     * @return Whether running TargetTweens on this channel are stepped in batches.
+     */
+    public boolean isBatched() {
+        return isBatched;
+    }
+
+    /**
+     * Sets whether top level {@link TargetTween TargetTweens} on this channel are stepped in batches. After its first
+     * step, the state of such a tween is moved into contiguous arrays shared with other tweens of the same vector size
+     * and kind of {@link Ease}, and each of these batches is advanced in a single loop that evaluates the eases and
+     * applies the values to the targets.
+     * This is much cheaper per tween when there are very many simple tweens running. Built-in eases are evaluated with
+     * direct calls for a whole batch at once, while tweens on channels that are not batched, and tweens inside
+     * GroupTweens, evaluate their eases one at a time through {@link Ease#apply(float, float, float)}.
+     * <p>
+     * Tweens that blend into tweens they interrupted, or that have a {@link TweenVisibilityCheck}, are not batched.
+     * Batched tweens are stepped after the other tweens of the channel, and their completion listeners are called after
+     * all batched tweens have been advanced.
+     *
+     * @param batched Whether to step TargetTweens in batches.
+     * @return This channel for chaining.
+     */
+    public TweenChannel batched(boolean batched) {
+        this.isBatched = batched;
+        return this;
+    }
+
+    TargetTweenBatch getBatch(int vectorSize, int easeKind) {
+        for (int i = 0; i < batches.size; i++) {
+            TargetTweenBatch batch = batches.get(i);
+            if (batch.vectorSize == vectorSize && batch.easeKind == easeKind)
+                return batch;
+        }
+        TargetTweenBatch batch = new TargetTweenBatch(this, vectorSize, easeKind);
+        batches.add(batch);
+        return batch;
+    }
+
+    int getBatchedTweenCount() {
+        int count = 0;
+        for (int i = 0; i < batches.size; i++) {
+            count += batches.get(i).size();
+        }
+        return count;
+    }
+
+    /**
+     * @return The number of top level tweens on this channel, including parked tweens and finished tweens that have not
+     * been removed yet.
+     */
+    public int getTweenCount() {
+        return tweens.size + pendingTweens.size + wheel.size() + getBatchedTweenCount();
+    }
+
+    @Override
+    public String toString() {
+        return "TweenChannel " + id;
+    }
+}
@@ -16,10 +16,11 @@
 package com.cyphercove.gdxtween;
 
 import com.badlogic.gdx.utils.Array;
-
-import com.badlogic.gdx.utils.SnapshotArray;
-
-import java.util.Iterator;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
 
 /**
  * Runs submitted {@linkplain Tweens Tweens}.
@@ -31,48 +32,131 @@ import java.util.Iterator;
  *     <li>An added tween interrupts any tween that is currently running on the same target.</li>
  *     <li>For the purposes of interruption, a tween that has a sequence chain under it is treated as a single tween
  *     on that target.</li>
+ *     <li>A tween with several targets, such as a {@link com.cyphercove.gdxtween.targettweens.MultiVector2Tween},
+ *     interrupts and is interrupted on each of them separately.</li>
  *     <li>Tweens with pools are automatically freed upon completion.</li>
+ *     <li>Top level tweens are stepped in the order they were started within each {@linkplain TweenChannel channel}.
+ *     Removing finished tweens does not change the order of the others.</li>
+ *     <li>Tweens started from a listener during {@link #step(float)} are first stepped on the following step.</li>
+ *     <li>If {@linkplain #setParkingThreshold(float) parking} is enabled, idle tweens are set aside until they need to
+ *     be stepped again, and then rejoin the end of their channel's step order.</li>
+ *     <li>On {@linkplain TweenChannel#batched(boolean) batched} channels, running TargetTweens are stepped after the
+ *     other tweens of the channel.</li>
+ *     <li>If a {@linkplain #setStepBudget(int, long) step budget} is set, tweens that are not
+ *     {@linkplain Tween#priority(boolean) priority} tweens may be deferred to a later step once it is used up.</li>
+ *     <li>If {@linkplain #setCompiledSchedules(boolean) compiled schedules} are enabled, the hierarchies of
+ *     GroupTweens are stepped through a flat schedule instead of recursively.</li>
  * </ul>
  */
 public class TweenRunner {
 
-    private final SnapshotArray<Tween<?>> tweens = new SnapshotArray<Tween<?>>(true, 64, Tween.class);
+    /**
+     * The channel that tweens are started on if none is specified.
+     */
+    public static final int DEFAULT_CHANNEL = 0;
+
+    /**
+     * The channels in the order they were created, which is the order they are stepped in.
+     */
+    private final Array<TweenChannel> channels = new Array<TweenChannel>();
+    private final IntMap<TweenChannel> channelsById = new IntMap<TweenChannel>();
+    private boolean isStepping;
+    private AsyncExecutor parallelExecutor;
+    private int parallelMinTweenCount;
+    private ParallelStepTask[] parallelStepTasks;
+    private final Array<AsyncResult<Void>> parallelStepResults = new Array<AsyncResult<Void>>();
     private final Array<TargetTween<?, ?>> interrupterTweens = new Array<TargetTween<?, ?>>();
+    private final InterruptionIndex interruptionIndex = new InterruptionIndex();
+    private float parkingThreshold = Float.POSITIVE_INFINITY;
+    private boolean isCompilingSchedules;
+    private final Array<Tween<?>> wokenTweens = new Array<Tween<?>>(true, 16, Tween.class);
+    private final Array<Tween<?>> finishedBatchedTweens = new Array<Tween<?>>(true, 16, Tween.class);
+    private int stepBudgetBeginCount;
+    private long stepBudgetNanos;
+    private boolean isOverStepBudgetNanos;
+    private int begunTweenCount, budgetChecks;
+    private long stepStartNanos;
+    private float fixedTimeStep;
+    private int maxSubsteps;
+    private boolean isFinalSubstepOnly;
+    private float accumulatedTime;
+
+    public TweenRunner() {
+        getChannel(DEFAULT_CHANNEL);
+    }
 
     /**
-     * Adds a tween or tween chain to the manager.
+     * Gets the channel with the given number, creating it if it does not exist yet. Tweens that are started without
+     * specifying a channel run on channel {@value #DEFAULT_CHANNEL}.
+     *
+     * @param id The number identifying the channel.
+     * @return The channel.
+     */
+    public TweenChannel getChannel(int id) {
+        TweenChannel channel = channelsById.get(id);
+        if (channel == null) {
+            channel = new TweenChannel(id);
+            channelsById.put(id, channel);
+            channels.add(channel);
+        }
+        return channel;
+    }
+
+    /**
+     * Adds a tween or tween chain to the manager on the default channel.
      *
      * @param tween The tween to start.
      */
     public void start (Tween<?> tween){
+        start(tween, DEFAULT_CHANNEL);
+    }
+
+    /**
+     * Adds a tween or tween chain to the manager on the given channel.
+     *
+     * @param tween The tween to start.
+     * @param channel The number of the channel to run the tween on. The channel is created if it does not exist yet.
+     * @see #getChannel(int)
+     */
+    public void start (Tween<?> tween, int channel){
         tween = tween.getTopLevelParent();
         if (tween.isAttached()) {
             throw new IllegalStateException("Tween was already started: " + tween);
         }
         tween.markAttached();
+        if (isCompilingSchedules && tween instanceof GroupTween && TweenSchedule.canSchedule(tween)) {
+            GroupTween<?> group = (GroupTween<?>) tween;
+            group.schedule = TweenSchedule.obtain(group);
+        }
 
-        // Snapshot is used to check interruptions so it is safe for callbacks to start new tweens.
+        // Listeners called during interruption may safely start new tweens.
         tween.collectInterrupters(interrupterTweens);
-        Tween<?>[] snapshotTweens = tweens.begin();
-        int snapshotTweensCount = tweens.size;
-        for (TargetTween<?, ?> interruptingTween: interrupterTweens) {
+        for (int i = 0, n = interrupterTweens.size; i < n; i++) {
+            TargetTween<?, ?> interruptingTween = interrupterTweens.get(i);
             float[] startWorldSpeeds = interruptingTween.prepareToInterrupt();
-            for (int i = 0; i < snapshotTweensCount; i++) {
-                Tween<?> t = snapshotTweens[i];
-                if (!t.isComplete() && !t.isCanceled()) {
-                    //noinspection unchecked
-                    t.checkInterruption(
-                            (Class<? extends TargetTween<?, ?>>) interruptingTween.getClass(),
-                            interruptingTween.target,
-                            startWorldSpeeds
-                    );
+            Class<? extends TargetTween<?, ?>> interruptionType = interruptingTween.getInterruptionType();
+            int targetCount = interruptingTween.getInterruptionTargetCount();
+            if (targetCount == 1) {
+                Object target = interruptingTween.getInterruptionTarget(0);
+                if (target != null)
+                    interruptionIndex.interrupt(interruptionType, target, interruptingTween, startWorldSpeeds);
+            } else {
+                for (int j = 0; j < targetCount; j++) {
+                    Object target = interruptingTween.getInterruptionTarget(j);
+                    if (target != null)
+                        interruptionIndex.interrupt(interruptionType, target, interruptingTween, null);
                 }
             }
         }
-        tweens.end();
         interrupterTweens.clear();
+        unparkCanceledTweens();
 
-        tweens.add(tween);
+        interruptionIndex.register(tween);
+        TweenChannel tweenChannel = getChannel(channel);
+        if (isStepping)
+            tweenChannel.pendingTweens.add(tween);
+        else
+            tweenChannel.tweens.add(tween);
     }
 
     /**
@@ -80,14 +164,83 @@ public class TweenRunner {
      * @return Whether any tweens existed and were removed.
      */
     public boolean cancelAllTweens() {
-        if (tweens.isEmpty())
+        boolean cancelled = false;
+        for (int c = 0; c < channels.size; c++) {
+            cancelled |= cancelAllTweens(channels.get(c));
+        }
+        return cancelled;
+    }
+
+    /**
+     * Cancels all tweens on the given channel immediately. No listener will be called. If the channel is paused, the
+     * canceled tweens are freed once it is resumed.
+     * @param channel The number of the channel whose tweens to cancel.
+     * @return Whether any tweens existed and were removed.
+     */
+    public boolean cancelAllTweens(int channel) {
+        TweenChannel tweenChannel = channelsById.get(channel);
+        return tweenChannel != null && cancelAllTweens(tweenChannel);
+    }
+
+    private boolean cancelAllTweens(TweenChannel channel) {
+        Array<Tween<?>> tweens = channel.tweens;
+        Array<Tween<?>> pendingTweens = channel.pendingTweens;
+        if (tweens.isEmpty() && pendingTweens.isEmpty() && channel.wheel.size() == 0
+                && channel.getBatchedTweenCount() == 0)
             return false;
-        for (Tween<?> tween : tweens){
-            tween.cancel();
+        for (int i = 0, n = tweens.size; i < n; i++)
+            tweens.get(i).cancel();
+        for (int i = 0, n = pendingTweens.size; i < n; i++)
+            pendingTweens.get(i).cancel();
+        for (int i = 0; i < channel.batches.size; i++)
+            channel.batches.get(i).cancelAll(); // Removed by the next step.
+        if (channel.wheel.size() > 0) {
+            Array<Tween<?>> unparked = isStepping ? pendingTweens : tweens;
+            int start = unparked.size;
+            channel.wheel.drain(unparked);
+            for (int i = start, n = unparked.size; i < n; i++)
+                unparked.get(i).cancel();
         }
         return true;
     }
 
+    /**
+     * Moves a running top level tween directly to the given time, forward or backward, for example to scrub through
+     * an animation. Moving forward has the same effect as stepping the tween by the difference, including calling the
+     * completion listeners of tweens that complete, and the tween completes if moved to its duration. Moving backward
+     * returns the tween's targets to their state at the earlier time without calling any listeners, and tweens in its
+     * hierarchy that had completed after that time become incomplete again, so they will call their completion
+     * listeners again when they next complete. Start values are not captured again.
+     * <p>
+     * A SequenceTween finds the child to move to with a binary search, and only the children that it moves past are
+     * visited, so seeking within a long sequence is cheap.
+     *
+     * @param tween A top level tween that was started on this TweenRunner and has not completed or been canceled.
+     * @param time  The elapsed time to move to, including any previous cycles if the tween repeats. It is clamped
+     *              between 0 and the tween's {@linkplain Tween#getTotalDuration() total duration}.
+     */
+    public void seek(Tween<?> tween, float time) {
+        if (tween.getParent() != null)
+            throw new IllegalArgumentException("Only top level tweens can be seeked: " + tween);
+        if (!tween.isAttached())
+            throw new IllegalArgumentException("Tween was not started: " + tween);
+        if (tween.isComplete() || tween.isCanceled())
+            throw new IllegalStateException("A completed or canceled tween cannot be seeked: " + tween);
+        if (isStepping)
+            throw new IllegalStateException("Tweens cannot be seeked while the TweenRunner is stepping.");
+        if (tween.batch != null) {
+            TargetTweenBatch batch = tween.batch;
+            batch.remove((TargetTween<?, ?>) tween);
+            batch.channel.tweens.add(tween);
+        } else if (tween.wheelSlot >= 0) {
+            TweenChannel channel = tween.parkedChannel;
+            channel.wheel.remove(tween);
+            tween.parkedChannel = null;
+            channel.tweens.add(tween);
+        }
+        tween.seek(time);
+    }
+
     /**
      * Cancels TargetTweens of the given type for the given target. If interrupted tweens are members of a GroupTween,
      * the GroupTween's {@link GroupTween#getChildInterruptionBehavior()} is respected.
@@ -97,52 +250,543 @@ public class TweenRunner {
      * @return True if any tweens were interrupted.
      */
     public <T> boolean interruptTweens(Class<? extends TargetTween<?, T>> tweenType, T target) {
-        boolean interruption = false;
-        Tween<?>[] snapshotTweens = tweens.begin();
-        for (int i = 0, n = tweens.size; i < n; i++) {
-            Tween<?> t = snapshotTweens[i];
-            if (!t.isComplete() && !t.isCanceled()) {
-                interruption |= t.checkInterruption(tweenType, target, null);
+        boolean interrupted = interruptionIndex.interrupt(tweenType, target, null, null);
+        unparkCanceledTweens();
+        return interrupted;
+    }
+
+    /**
+     * Takes tweens that were canceled while parked out of their channel's timing wheel so they are freed on the next
+     * step.
+     */
+    private void unparkCanceledTweens() {
+        Array<Tween<?>> canceledParkedTweens = interruptionIndex.canceledParkedTweens;
+        for (int i = 0; i < canceledParkedTweens.size; i++) {
+            Tween<?> tween = canceledParkedTweens.get(i);
+            if (tween.wheelSlot < 0)
+                continue;
+            TweenChannel channel = tween.parkedChannel;
+            channel.wheel.remove(tween);
+            (isStepping ? channel.pendingTweens : channel.tweens).add(tween);
+        }
+        canceledParkedTweens.clear();
+    }
+
+    /**
+     * Whether any tween will change on a future step. This is false when there are no unfinished tweens, or when the
+     * only unfinished tweens are on channels that are paused or have a time scale of zero. It can be used to stop
+     * rendering continuously while nothing is animating.
+     *
+     * @return Whether any tween will change on a future step.
+     * @see #getTimeUntilNextUpdate()
+     */
+    public boolean hasActiveTweens() {
+        return getTimeUntilNextUpdate() != Float.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Returns how much unscaled time can pass before any tween changes. This is zero if any tween is running, and
+     * otherwise the time until the earliest {@linkplain #setParkingThreshold(float) parked} tween is due to wake, or
+     * {@link Float#POSITIVE_INFINITY} if no tween will change at all. Paused channels are not considered, so this
+     * should be checked again after resuming a channel or starting a tween.
+     * <p>
+     * For example, an application with non-continuous rendering can request a render whenever this is zero, and
+     * schedule one for when it elapses otherwise.
+     *
+     * @return The time that can be passed to {@link #step(float)} before any tween changes.
+     */
+    public float getTimeUntilNextUpdate() {
+        float timeUntilNextUpdate = Float.POSITIVE_INFINITY;
+        for (int c = 0; c < channels.size; c++) {
+            TweenChannel channel = channels.get(c);
+            if (channel.isPaused() || channel.getTimeScale() == 0f)
+                continue;
+            if (hasRunningTween(channel.tweens) || hasRunningTween(channel.pendingTweens)
+                    || channel.getBatchedTweenCount() > 0)
+                return 0f;
+            if (channel.wheel.size() > 0) {
+                double timeUntilWake = (channel.wheel.getEarliestWakeClock() - channel.clock) / channel.getTimeScale();
+                timeUntilNextUpdate = Math.min(timeUntilNextUpdate, Math.max(0f, (float) timeUntilWake));
             }
         }
-        tweens.end();
-        return interruption;
+        return timeUntilNextUpdate;
+    }
+
+    private static boolean hasRunningTween(Array<Tween<?>> tweens) {
+        for (int i = 0, n = tweens.size; i < n; i++) {
+            Tween<?> tween = tweens.get(i);
+            if (!tween.isComplete() && !tween.isCanceled())
+                return true;
+        }
+        return false;
     }
 
     /**
-     * Must be called for every frame of animation to advance all of the tweens.
+     * Must be called for every frame of animation to advance all of the tweens. Channels are stepped in the order they
+     * were created, and paused channels are skipped. If a {@linkplain #setFixedTimeStep(float, int, boolean) fixed
+     * time step} is set, the time is accumulated and the tweens are advanced in whole substeps.
      * @param deltaTime The time passed since the last step.
      * */
     public void step (float deltaTime){
-        Iterator<Tween<?>> iterator = tweens.iterator();
-        while (iterator.hasNext()) {
-            Tween<?> tween = iterator.next();
-            if (tween.isCanceled() || tween.isComplete()) {
-                tween.free();
-                iterator.remove();
+        isOverStepBudgetNanos = false;
+        begunTweenCount = 0;
+        budgetChecks = 0;
+        if (stepBudgetNanos > 0)
+            stepStartNanos = TimeUtils.nanoTime();
+        if (fixedTimeStep == 0f) {
+            advance(deltaTime);
+            return;
+        }
+        accumulatedTime += deltaTime;
+        int substeps = (int) (accumulatedTime / fixedTimeStep);
+        if (substeps > maxSubsteps) {
+            // Drop the time that can't be caught up on instead of falling further behind on every frame.
+            substeps = maxSubsteps;
+            accumulatedTime %= fixedTimeStep;
+        } else {
+            accumulatedTime -= substeps * fixedTimeStep;
+        }
+        if (substeps == 0)
+            return;
+        if (isFinalSubstepOnly) {
+            advance(substeps * fixedTimeStep);
+        } else {
+            for (int i = 0; i < substeps; i++) {
+                advance(fixedTimeStep);
             }
         }
+    }
 
-        // SnapshotArray is used so callbacks can safely start new tweens.
-        Tween<?>[] snapshotTweens = tweens.begin();
-        for (int i = 0, n = tweens.size; i < n; i++) {
-            Tween<?> tween = snapshotTweens[i];
-            tween.goTo(tween.getTime() + deltaTime);
+    /**
+     * Advances the time of all tweens that are not paused.
+     */
+    private void advance (float deltaTime){
+        isStepping = true;
+        try {
+            for (int c = 0; c < channels.size; c++) {
+                TweenChannel channel = channels.get(c);
+                if (!channel.isPaused())
+                    stepChannel(channel, deltaTime * channel.getTimeScale());
+            }
+        } finally {
+            isStepping = false;
+        }
+        for (int c = 0; c < channels.size; c++) {
+            TweenChannel channel = channels.get(c);
+            if (channel.pendingTweens.notEmpty()) {
+                channel.tweens.addAll(channel.pendingTweens);
+                channel.pendingTweens.clear();
+            }
+        }
+    }
+
+    private void stepChannel (TweenChannel channel, float deltaTime) {
+        Array<Tween<?>> tweens = channel.tweens;
+        if (!channel.isBatched()) {
+            for (int i = 0; i < channel.batches.size; i++)
+                channel.batches.get(i).drain(tweens);
+        }
+        removeFinishedTweens(channel);
+        Tween<?>[] items = tweens.items;
+        int n = tweens.size;
+        if (parallelExecutor != null && n >= parallelMinTweenCount) {
+            stepParallel(items, n, deltaTime);
+        } else if (stepBudgetBeginCount > 0 || stepBudgetNanos > 0) {
+            for (int i = 0; i < n; i++) {
+                Tween<?> tween = items[i];
+                if (tween.isStarted()) {
+                    if (!tween.isPriority() && !tween.wasDeferred && isOverStepBudgetNanos()) {
+                        tween.deferredTime += deltaTime;
+                        tween.wasDeferred = true;
+                        continue;
+                    }
+                } else if (!tween.isPriority() && isOverStepBudgetBegins()) {
+                    continue; // Begins later instead.
+                }
+                stepTween(tween, deltaTime);
+            }
+        } else {
+            for (int i = 0; i < n; i++) {
+                stepTween(items[i], deltaTime);
+            }
+        }
+
+        if (channel.batches.notEmpty())
+            stepBatches(channel, deltaTime);
+
+        channel.clock += deltaTime;
+        if (channel.wheel.size() > 0)
+            wakeParkedTweens(channel);
+    }
+
+    /**
+     * Steps the batched tweens of the channel, then completes the ones that reached their duration and returns them to
+     * the channel's tweens to be freed.
+     */
+    private void stepBatches(TweenChannel channel, float deltaTime) {
+        Array<Tween<?>> finished = finishedBatchedTweens;
+        for (int i = 0; i < channel.batches.size; i++)
+            channel.batches.get(i).step(deltaTime, finished);
+        for (int i = 0; i < finished.size; i++) {
+            Tween<?> tween = finished.get(i);
+            if (!tween.isCanceled())
+                tween.goTo(tween.getElapsedTime() + deltaTime);
+        }
+        channel.tweens.addAll(finished);
+        finished.clear();
+    }
+
+    /**
+     * Steps a top level tween, making up for any time it missed while deferred.
+     */
+    private static void stepTween(Tween<?> tween, float deltaTime) {
+        float time = tween.getElapsedTime() + tween.deferredTime + deltaTime;
+        tween.deferredTime = 0f;
+        tween.wasDeferred = false;
+        tween.goTo(time);
+    }
+
+    /**
+     * Checks whether a tween that has not begun yet must wait, counting it as begun if not. At least one tween is begun
+     * on each step so waiting tweens always make progress.
+     */
+    private boolean isOverStepBudgetBegins() {
+        if (begunTweenCount > 0 && ((stepBudgetBeginCount > 0 && begunTweenCount >= stepBudgetBeginCount)
+                || isOverStepBudgetNanos()))
+            return true;
+        begunTweenCount++;
+        return false;
+    }
+
+    private boolean isOverStepBudgetNanos() {
+        if (isOverStepBudgetNanos || stepBudgetNanos == 0)
+            return isOverStepBudgetNanos;
+        if ((budgetChecks++ & 7) == 0) // Reading the clock has a cost of its own.
+            isOverStepBudgetNanos = TimeUtils.nanoTime() - stepStartNanos >= stepBudgetNanos;
+        return isOverStepBudgetNanos;
+    }
+
+    /**
+     * Sets a fixed time step, so tweens are always advanced in multiples of the same time regardless of the frame rate.
+     * The time passed to {@link #step(float)} is accumulated, and each step advances the tweens by as many whole
+     * substeps as have accumulated. The remainder is carried over to the next step.
+     * <p>
+     * Since tweens are advanced to the same times regardless of the frame deltas, the values they apply, the order of
+     * listener calls, and the world speeds used to {@linkplain Ease.BlendInEase blend} into interrupted tweens are
+     * reproducible. A tween started between steps interrupts others at their time as of the last substep, and begins
+     * on the next substep.
+     * <p>
+     * This means the {@linkplain #getAccumulatedTime() accumulated time} is not taken into account when a tween is
+     * interrupted. The interrupted tween's values and world speeds are captured as they were at the last substep, up
+     * to one time step behind the frame time, and the interrupting tween blends from those. If rendered values are
+     * interpolated or extrapolated using the accumulated time, a blended tween can appear to start from slightly
+     * behind where the interrupted one was last drawn. A smaller time step reduces this.
+     *
+     * @param timeStep                 The time of each substep, or 0 to step by the raw frame delta.
+     * @param maxSubsteps              The maximum number of substeps per call to {@link #step(float)}. Accumulated time
+     *                                 beyond this is dropped, so a long frame can't cause ever longer frames.
+     * @param evaluateFinalSubstepOnly If true, the substeps of each step are combined and the tweens are advanced once
+     *                                 by their total time. Since tweens only depend on their current time, they end up
+     *                                 in the same state as when stepping each substep, but listeners are called once
+     *                                 per step and a tween completing in an early substep is not replaced by one started
+     *                                 from its listener until the next step.
+     */
+    public void setFixedTimeStep(float timeStep, int maxSubsteps, boolean evaluateFinalSubstepOnly) {
+        if (timeStep < 0f)
+            throw new IllegalArgumentException("timeStep must not be negative.");
+        if (timeStep > 0f && maxSubsteps < 1)
+            throw new IllegalArgumentException("maxSubsteps must be at least 1.");
+        this.fixedTimeStep = timeStep;
+        this.maxSubsteps = maxSubsteps;
+        this.isFinalSubstepOnly = evaluateFinalSubstepOnly;
+        accumulatedTime = 0f;
+    }
+
+    /**
+     * @return The time that has accumulated towards the next fixed time step, or 0 if no fixed time step is set. This
+     * can be used to interpolate rendered values between substeps.
+     */
+    public float getAccumulatedTime() {
+        return accumulatedTime;
+    }
+
+    /**
+     * Limits the work done on each step so a burst of newly started tweens does not cause a long frame. Top level
+     * tweens other than {@linkplain Tween#priority(boolean) priority} tweens are deferred to a later step once the
+     * budget is used up:
+     * <ul>
+     *     <li>A tween that has not begun yet waits for a step with budget left for it, so the cost of
+     *     {@link TargetTween#begin()} for many tweens is spread over several steps. Its start is delayed accordingly.
+     *     At least one waiting tween begins on each step.</li>
+     *     <li>A running tween is only deferred once the time budget is used up, and never on two steps in a row. When it
+     *     is stepped again, it makes up for the time it missed, so it ends at the same time but may update at a lower
+     *     rate.</li>
+     * </ul>
+     * Tweens are stepped in order, so the budget is used by tweens that were started earlier first. Tweens on channels
+     * that are stepped in parallel are not subject to the budget.
+     *
+     * @param maxBeginCount The number of top level tweens that may begin on each step, or 0 for no limit.
+     * @param maxNanos      The time in nanoseconds that may be spent on each step before deferring tweens, or 0 for no
+     *                      limit. The time is only checked periodically, so it may be exceeded slightly.
+     */
+    public void setStepBudget(int maxBeginCount, long maxNanos) {
+        if (maxBeginCount < 0 || maxNanos < 0)
+            throw new IllegalArgumentException("Step budget must not be negative.");
+        stepBudgetBeginCount = maxBeginCount;
+        stepBudgetNanos = maxNanos;
+    }
+
+    /**
+     * Steps the parked tweens of the channel that are due over the whole time they were parked, and returns them to
+     * the end of the channel's tweens.
+     */
+    private void wakeParkedTweens(TweenChannel channel) {
+        Array<Tween<?>> woken = wokenTweens;
+        channel.wheel.advance(channel.clock, woken);
+        for (int i = 0; i < woken.size; i++) {
+            Tween<?> tween = woken.get(i);
+            tween.parkedChannel = null;
+            if (!tween.isCanceled())
+                tween.goTo(tween.getElapsedTime() + (float) (channel.clock - tween.parkedClock));
         }
-        tweens.end();
+        channel.tweens.addAll(woken);
+        woken.clear();
+    }
+
+    /**
+     * Steps the tweens in contiguous partitions, one of them on the calling thread, then calls the queued completion
+     * listeners in the order they would have been called if the tweens were stepped serially.
+     */
+    private void stepParallel(Tween<?>[] items, int n, float deltaTime) {
+        ParallelStepTask[] tasks = parallelStepTasks;
+        int partitionSize = (n + tasks.length - 1) / tasks.length;
+        int partitionCount = (n + partitionSize - 1) / partitionSize;
+        for (int p = 0; p < partitionCount; p++) {
+            tasks[p].set(items, p * partitionSize, Math.min(n, (p + 1) * partitionSize), deltaTime);
+        }
+        Tween.parallelStepStarted();
+        try {
+            for (int p = 1; p < partitionCount; p++) {
+                parallelStepResults.add(parallelExecutor.submit(tasks[p]));
+            }
+            tasks[0].call();
+        } finally {
+            for (int i = 0; i < parallelStepResults.size; i++) {
+                parallelStepResults.get(i).get();
+            }
+            parallelStepResults.clear();
+            Tween.parallelStepFinished();
+            for (int p = 0; p < partitionCount; p++) {
+                tasks[p].tweens = null;
+            }
+        }
+        for (int p = 0; p < partitionCount; p++) {
+            Array<Tween<?>> completedTweens = tasks[p].completedTweens;
+            for (int i = 0; i < completedTweens.size; i++) {
+                completedTweens.get(i).notifyQueuedCompletion();
+            }
+            completedTweens.clear();
+        }
+    }
+
+    /**
+     * Enables stepping top level tweens on multiple threads when there are many of them. The tweens are split into
+     * contiguous partitions which are submitted to the executor, except for one that is stepped on the calling thread.
+     * Completion listeners are not called until all tweens have been stepped. They are then called on the calling
+     * thread in the same order as they would be when stepping serially.
+     * <p>
+     * While this is enabled, the {@link TargetTween#begin()} and {@link TargetTween#apply(int, float)} implementations of
+     * running tweens must be safe to call concurrently with those of tweens in other hierarchies, and tweens in different
+     * hierarchies must not modify the same fields of a shared target. The built-in tweens satisfy this, as long as only
+     * one tween of each type runs on a given target, which interruption already ensures. Tweens on a shared float array
+     * or buffer may run at the same time on different elements, and a
+     * {@link com.cyphercove.gdxtween.targettweens.FloatBufferTween.DirtyRange DirtyRange} shared by them can be expanded
+     * from several threads. The same applies to {@linkplain TweenVisibilityCheck visibility checks}, which are called
+     * from the executor's threads too.
+     * <p>
+     * Since listeners are called only after all tweens are stepped, a tween canceled by another tween's completion
+     * listener may have already been stepped for that frame.
+     *
+     * @param executor       The executor used to step partitions of the tweens, or null to disable parallel stepping.
+     *                       The executor is not disposed by the TweenRunner.
+     * @param partitionCount The maximum number of partitions to split the top level tweens into. Should usually be the
+     *                       number of threads of the executor plus one.
+     * @param minTweenCount  The minimum number of top level tweens to step in parallel. With fewer tweens than this,
+     *                       they are stepped serially on the calling thread.
+     */
+    public void setParallelStepping(AsyncExecutor executor, int partitionCount, int minTweenCount) {
+        if (isStepping)
+            throw new IllegalStateException("Parallel stepping cannot be changed during a step.");
+        if (executor == null) {
+            parallelExecutor = null;
+            parallelStepTasks = null;
+            return;
+        }
+        if (partitionCount < 2)
+            throw new IllegalArgumentException("partitionCount must be at least 2.");
+        parallelExecutor = executor;
+        parallelMinTweenCount = Math.max(minTweenCount, partitionCount);
+        parallelStepTasks = new ParallelStepTask[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            parallelStepTasks[i] = new ParallelStepTask();
+        }
+    }
+
+    /**
+     * Enables parking top level tweens that will not need stepping for a while, such as a sequence that starts with a
+     * long delay. Parked tweens are kept in a timing wheel and cost nothing until they are due, when they are stepped
+     * over the whole time they were parked in one go. Their listeners are called in the same step as they would have
+     * been otherwise, but woken tweens rejoin their channel after the tweens that were not parked, so the step order
+     * among top level tweens no longer matches their start order. The {@link Tween#getTime()} of a parked tween is not
+     * updated until it wakes.
+     * <p>
+     * Parking is disabled by default.
+     *
+     * @param minIdleTime The minimum time a tween must be idle for to be parked, or {@link Float#POSITIVE_INFINITY} to
+     *                    disable parking. Must be positive.
+     */
+    public void setParkingThreshold(float minIdleTime) {
+        if (!(minIdleTime > 0f))
+            throw new IllegalArgumentException("minIdleTime must be positive.");
+        parkingThreshold = minIdleTime;
+    }
+
+    /**
+     * @return The minimum time a tween must be idle for to be parked, or {@link Float#POSITIVE_INFINITY} if parking is
+     * disabled.
+     * @see #setParkingThreshold(float)
+     */
+    public float getParkingThreshold() {
+        return parkingThreshold;
+    }
+
+    /**
+     * Sets whether GroupTweens started from now on are compiled into a flat schedule of the tweens in their hierarchy,
+     * with the absolute times each of them starts and ends at. A compiled group is stepped by visiting only the tweens
+     * that overlap the current time, instead of recursing through every level of the hierarchy and skipping the tweens
+     * that are finished or have not started yet. This is faster for long or deeply nested hierarchies.
+     * <p>
+     * Completion listeners are called in the same order as without compiling, and interruption and
+     * {@link ChildInterruptionBehavior} work the same way. Hierarchies containing a tween that {@linkplain Tween#repeat(int)
+     * repeats}, or a GroupTween other than a SequenceTween or ParallelTween, are not compiled.
+     * <p>
+     * Compiling is disabled by default.
+     *
+     * @param compile Whether to compile GroupTweens when they are started.
+     */
+    public void setCompiledSchedules(boolean compile) {
+        isCompilingSchedules = compile;
+    }
+
+    /**
+     * @return Whether GroupTweens are compiled into flat schedules when they are started.
+     * @see #setCompiledSchedules(boolean)
+     */
+    public boolean isCompilingSchedules() {
+        return isCompilingSchedules;
+    }
+
+    /**
+     * Frees and removes completed and canceled tweens in a single pass, shifting the remaining tweens down so they
+     * keep their order. Tweens that are idle for at least the parking threshold are moved to the channel's timing
+     * wheel, and running TargetTweens of a batched channel to its batches, in the same pass.
+     */
+    private void removeFinishedTweens(TweenChannel channel) {
+        Array<Tween<?>> tweens = channel.tweens;
+        Tween<?>[] items = tweens.items;
+        int size = tweens.size;
+        boolean parking = parkingThreshold != Float.POSITIVE_INFINITY;
+        boolean batching = channel.isBatched();
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            Tween<?> tween = items[i];
+            if (tween.isCanceled() || tween.isComplete()) {
+                interruptionIndex.unregister(tween);
+                tween.free();
+                continue;
+            }
+            float idleTime = parking ? tween.getIdleTime() : 0f;
+            if (batching && tween.isStarted() && tween instanceof TargetTween
+                    && ((TargetTween<?, ?>) tween).isBatchable()) {
+                TargetTween<?, ?> targetTween = (TargetTween<?, ?>) tween;
+                channel.getBatch(targetTween.vectorSize, Ease.kindOf(targetTween.getEase())).add(targetTween);
+            } else if (idleTime >= parkingThreshold) {
+                tween.parkedChannel = channel;
+                tween.parkedClock = channel.clock - tween.deferredTime;
+                tween.deferredTime = 0f;
+                tween.wasDeferred = false;
+                tween.wakeClock = tween.parkedClock + idleTime;
+                channel.wheel.add(tween);
+            } else {
+                items[kept++] = tween;
+            }
+        }
+        if (kept < size)
+            tweens.truncate(kept);
     }
 
     //TODO XXX
     public String getStringContents() {
         StringBuilder builder = new StringBuilder();
         boolean first = true;
-        for (Tween<?> tween : tweens) {
-            if (first)
-                first = false;
-            else
-                builder.append(", ");
-            builder.append(tween.toString());
+        Array<Tween<?>> parkedTweens = new Array<Tween<?>>();
+        for (int c = 0; c < channels.size; c++) {
+            TweenChannel channel = channels.get(c);
+            for (int i = 0, n = channel.tweens.size; i < n; i++) {
+                if (first)
+                    first = false;
+                else
+                    builder.append(", ");
+                builder.append(channel.tweens.get(i).toString());
+            }
+            for (int i = 0, n = channel.pendingTweens.size; i < n; i++) {
+                if (first)
+                    first = false;
+                else
+                    builder.append(", ");
+                builder.append(channel.pendingTweens.get(i).toString());
+            }
+            channel.wheel.collect(parkedTweens);
+            for (int i = 0; i < channel.batches.size; i++)
+                channel.batches.get(i).collect(parkedTweens);
+            for (int i = 0, n = parkedTweens.size; i < n; i++) {
+                if (first)
+                    first = false;
+                else
+                    builder.append(", ");
+                builder.append(parkedTweens.get(i).toString());
+            }
+            parkedTweens.clear();
         }
         return builder.toString();
     }
+
+    private static final class ParallelStepTask implements AsyncTask<Void> {
+        final Array<Tween<?>> completedTweens = new Array<Tween<?>>(true, 16, Tween.class);
+        Tween<?>[] tweens;
+        int start, end;
+        float deltaTime;
+
+        void set(Tween<?>[] tweens, int start, int end, float deltaTime) {
+            this.tweens = tweens;
+            this.start = start;
+            this.end = end;
+            this.deltaTime = deltaTime;
+            completedTweens.clear();
+        }
+
+        @Override
+        public Void call() {
+            for (int i = start; i < end; i++) {
+                Tween<?> tween = tweens[i];
+                tween.completionQueue = completedTweens;
+                try {
+                    stepTween(tween, deltaTime);
+                } finally {
+                    tween.completionQueue = null;
+                }
+            }
+            return null;
+        }
+    }
 }
@@ -0,0 +1,243 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.utils.NumberUtils;
+import com.badlogic.gdx.utils.Pool;
+
+import java.util.Arrays;
+
+/**
+ * A flat schedule of all the tweens in the hierarchy of a top level {@link GroupTween}, with the absolute times each of
+ * them starts and ends at, so the hierarchy can be stepped without recursing through its groups. Only the tweens whose
+ * span overlaps the current time are visited on each step.
+ * <p>
+ * The tweens are in the order a recursive step would reach them, except that each group comes after its children. The
+ * groups' own update and rewind do nothing while they are scheduled. They are still stepped through
+ * {@link Tween#goTo(float)} after their children, so their time and completion are kept up to date, and their
+ * completion listeners are called at the same point as when stepped recursively.
+ * <p>
+ * Each tween ends at the same time as its parent if it is the last child of a SequenceTween or the longest child of a
+ * ParallelTween, so rounding error can never complete a group before its children.
+ */
+final class TweenSchedule {
+
+    private static final Pool<TweenSchedule> POOL = new Pool<TweenSchedule>() {
+        @Override
+        protected TweenSchedule newObject() {
+            return new TweenSchedule();
+        }
+    };
+
+    private Tween<?>[] tweens = new Tween<?>[16];
+    private float[] starts = new float[16], ends = new float[16];
+    private int size;
+    /**
+     * The entries sorted by start time, and the position in it of the next entry to start.
+     */
+    private int[] startOrder = new int[16];
+    private int nextStart;
+    /**
+     * The entries that have started and are not complete or canceled, in schedule order.
+     */
+    private int[] live = new int[16];
+    private int liveCount;
+    /**
+     * The time of the top level group when the schedule was last stepped or rewound.
+     */
+    private float time;
+    private long[] sortKeys = new long[16];
+
+    /**
+     * @return Whether the hierarchy of the tween can be stepped by a schedule. It must be made of SequenceTweens and
+     * ParallelTweens, with no repeats.
+     */
+    static boolean canSchedule(Tween<?> tween) {
+        if (tween.getRepeatCount() != 0)
+            return false;
+        if (!(tween instanceof GroupTween))
+            return true;
+        if (!(tween instanceof SequenceTween || tween instanceof ParallelTween))
+            return false;
+        for (Tween<?> child : ((GroupTween<?>) tween).children) {
+            if (!canSchedule(child))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Obtains a schedule for the hierarchy of a top level group that has been attached, so its durations are fixed.
+     */
+    static TweenSchedule obtain(GroupTween<?> group) {
+        TweenSchedule schedule = POOL.obtain();
+        group.isScheduled = true;
+        schedule.addChildren(group, 0f, group.getDuration());
+        schedule.sortStarts();
+        return schedule;
+    }
+
+    private void addChildren(GroupTween<?> group, float start, float end) {
+        boolean isSequence = group instanceof SequenceTween;
+        float groupDuration = group.getDuration();
+        float childStart = start;
+        for (int i = 0, n = group.children.size; i < n; i++) {
+            Tween<?> child = group.children.get(i);
+            float duration = child.getTotalDuration();
+            float childEnd;
+            if (isSequence)
+                childEnd = i == n - 1 ? end : Math.min(end, childStart + duration);
+            else
+                childEnd = duration >= groupDuration ? end : Math.min(end, childStart + duration);
+            if (child instanceof GroupTween) {
+                GroupTween<?> childGroup = (GroupTween<?>) child;
+                childGroup.isScheduled = true;
+                addChildren(childGroup, childStart, childEnd);
+            }
+            add(child, childStart, childEnd);
+            if (isSequence)
+                childStart = childEnd;
+        }
+    }
+
+    private void add(Tween<?> tween, float start, float end) {
+        if (size == tweens.length) {
+            int capacity = size * 2;
+            Tween<?>[] newTweens = new Tween<?>[capacity];
+            float[] newStarts = new float[capacity], newEnds = new float[capacity];
+            System.arraycopy(tweens, 0, newTweens, 0, size);
+            System.arraycopy(starts, 0, newStarts, 0, size);
+            System.arraycopy(ends, 0, newEnds, 0, size);
+            tweens = newTweens;
+            starts = newStarts;
+            ends = newEnds;
+            startOrder = new int[capacity];
+            live = new int[capacity];
+            sortKeys = new long[capacity];
+        }
+        tweens[size] = tween;
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    private void sortStarts() {
+        // Start times are not negative, so their bits sort in the same order as they do. Ties keep schedule order.
+        long[] keys = sortKeys;
+        for (int i = 0; i < size; i++)
+            keys[i] = (long) NumberUtils.floatToRawIntBits(starts[i]) << 32 | i;
+        Arrays.sort(keys, 0, size);
+        for (int i = 0; i < size; i++)
+            startOrder[i] = (int) keys[i];
+    }
+
+    /**
+     * Steps the tweens overlapping the given time of the top level group.
+     *
+     * @param time       The time of the top level group.
+     * @param isComplete Whether the top level group is complete, in which case all tweens are completed.
+     */
+    void step(float time, boolean isComplete) {
+        this.time = time;
+        while (nextStart < size && (isComplete || starts[startOrder[nextStart]] <= time))
+            insertLive(startOrder[nextStart++]);
+        int[] live = this.live;
+        int kept = 0;
+        for (int i = 0; i < liveCount; i++) {
+            int entry = live[i];
+            Tween<?> tween = tweens[entry];
+            if (!tween.isCanceled()) {
+                float localTime = time - starts[entry], duration = tween.getTotalDuration();
+                boolean isAtEnd = isComplete || time >= ends[entry] || localTime >= duration;
+                tween.goTo(isAtEnd ? duration : localTime);
+            }
+            if (!tween.isComplete() && !tween.isCanceled())
+                live[kept++] = entry;
+        }
+        liveCount = kept;
+    }
+
+    private void insertLive(int entry) {
+        int index = liveCount;
+        while (index > 0 && live[index - 1] > entry)
+            index--;
+        System.arraycopy(live, index, live, index + 1, liveCount - index);
+        live[index] = entry;
+        liveCount++;
+    }
+
+    /**
+     * Moves the tweens back to their state at an earlier time of the top level group. Only tweens that had been reached
+     * are visited, in reverse order, so targets shared by several of them end up with the earliest start values. At
+     * time 0, every tween is returned to its start, so tweens without duration run again.
+     */
+    void rewind(float time) {
+        float previousTime = this.time;
+        this.time = time;
+        for (int entry = size - 1; entry >= 0; entry--) {
+            Tween<?> tween = tweens[entry];
+            if (!tween.isStarted() || starts[entry] > previousTime)
+                continue;
+            float localTime = time - starts[entry];
+            if (localTime < 0f || time == 0f)
+                tween.seek(0f);
+            else if (localTime < tween.getElapsedTime() || (localTime == tween.getElapsedTime() && !tween.isComplete()))
+                tween.seek(localTime);
+        }
+        int low = 0, high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[startOrder[mid]] <= time)
+                low = mid + 1;
+            else
+                high = mid;
+        }
+        nextStart = low;
+        liveCount = 0;
+        for (int entry = 0; entry < size; entry++) {
+            Tween<?> tween = tweens[entry];
+            if (starts[entry] <= time && !tween.isComplete() && !tween.isCanceled())
+                live[liveCount++] = entry;
+        }
+    }
+
+    /**
+     * @return How long until a tween starts or a running tween needs stepping, for {@link Tween#getIdleTime()}.
+     */
+    float getIdleTime(float time, float duration) {
+        float idleTime = duration - time;
+        if (nextStart < size)
+            idleTime = Math.min(idleTime, starts[startOrder[nextStart]] - time);
+        for (int i = 0; i < liveCount; i++) {
+            int entry = live[i];
+            Tween<?> tween = tweens[entry];
+            if (!(tween instanceof GroupTween))
+                idleTime = Math.min(idleTime, tween.getIdleTime());
+            else if (tween.hasCompletionListener())
+                idleTime = Math.min(idleTime, ends[entry] - time); // Must be stepped when it completes.
+        }
+        return Math.max(0f, idleTime);
+    }
+
+    void free() {
+        Arrays.fill(tweens, 0, size, null);
+        size = 0;
+        nextStart = 0;
+        liveCount = 0;
+        time = 0f;
+        POOL.free(this);
+    }
+}
@@ -0,0 +1,37 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+/**
+ * Decides whether the target of a {@link TargetTween} can currently be seen. While it cannot, the tween keeps
+ * advancing but does not apply values to the target.
+ * <p>
+ * The check is called while the tween is stepped. If the TweenRunner has
+ * {@linkplain TweenRunner#setParallelStepping(com.badlogic.gdx.utils.async.AsyncExecutor, int, int) parallel stepping}
+ * enabled, this can be on one of the executor's threads, at the same time as the checks of tweens in other
+ * hierarchies. It must then only read the given target and state that is not modified while the TweenRunner steps,
+ * such as a camera that is only updated between steps. Targets of other tweens may be modified concurrently.
+ * @param <TG> The type of target being checked. To specify a check that can be shared by different types of
+ *           TargetTweens, use {@code <Object>}.
+ */
+public interface TweenVisibilityCheck<TG> {
+    /** Called on each step of a running tween before it applies values to its target. With parallel stepping, this
+     * may be called on a thread other than the one calling {@link TweenRunner#step(float)}.
+     * @param target The target of the tween.
+     * @return Whether the target is visible. If false, the tween does not modify the target on this step.
+     */
+    boolean isVisible (TG target);
+}
@@ -20,10 +20,13 @@ import com.badlogic.gdx.math.GridPoint2;
 import com.badlogic.gdx.math.GridPoint3;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.FloatArray;
 import com.cyphercove.gdxtween.math.Scalar;
 import com.cyphercove.gdxtween.math.ScalarInt;
 import com.cyphercove.gdxtween.targettweens.*;
 
+import java.nio.FloatBuffer;
+
 /**
  * A utility class containing entry-points for creating tweens.
  */
@@ -111,6 +114,22 @@ public final class Tweens {
         return to(target, end.x, end.y);
     }
 
+    /**
+     * Create a single MultiVector2Tween that moves all the given targets, sharing one duration, ease and time. For
+     * interruption, it behaves as a separate Vector2Tween on each target.
+     *
+     * @param targets The Vector2s whose values will be modified. The array is retained by the tween and must not be
+     *                modified while it is running.
+     * @param endXY   Final x and y values as consecutive pairs, in the same order as the targets. The reference is not
+     *                retained by the tween.
+     * @return A MultiVector2Tween that will automatically be returned to a pool when complete.
+     */
+    static public MultiVector2Tween toAll(Vector2[] targets, float[] endXY) {
+        return MultiVector2Tween.newInstance(targets.length)
+                .target(targets)
+                .end(endXY);
+    }
+
     /**
      * Create a Vector3Tween for the given target.
      *
@@ -212,6 +231,56 @@ public final class Tweens {
         return to(target, end.x, end.y, end.z);
     }
 
+    /**
+     * Create a FloatArrayTween for elements of the given array.
+     *
+     * @param target    The array whose elements will be modified.
+     * @param offset    The index of the first element to modify.
+     * @param stride    The distance in the array between consecutive elements to modify.
+     * @param endValues Final values, one for each element to modify. The reference is not retained by the tween.
+     * @return A FloatArrayTween that will automatically be returned to a pool when complete.
+     */
+    static public FloatArrayTween to(float[] target, int offset, int stride, float... endValues) {
+        return FloatArrayTween.newInstance(endValues.length)
+                .target(target)
+                .offset(offset)
+                .stride(stride)
+                .end(endValues);
+    }
+
+    /**
+     * Create a FloatArrayTween for elements of the given FloatArray. The FloatArray must not grow while the tween is
+     * running.
+     *
+     * @param target    The FloatArray whose elements will be modified.
+     * @param offset    The index of the first element to modify.
+     * @param stride    The distance in the array between consecutive elements to modify.
+     * @param endValues Final values, one for each element to modify. The reference is not retained by the tween.
+     * @return A FloatArrayTween that will automatically be returned to a pool when complete.
+     */
+    static public FloatArrayTween to(FloatArray target, int offset, int stride, float... endValues) {
+        if (offset + (endValues.length - 1) * stride >= target.size)
+            throw new IllegalArgumentException("The elements to modify extend past the size of the FloatArray.");
+        return to(target.items, offset, stride, endValues);
+    }
+
+    /**
+     * Create a FloatBufferTween for elements of the given buffer.
+     *
+     * @param target    The buffer whose elements will be modified. Its position is not used or changed.
+     * @param offset    The index of the first element to modify.
+     * @param stride    The distance in the buffer between consecutive elements to modify.
+     * @param endValues Final values, one for each element to modify. The reference is not retained by the tween.
+     * @return A FloatBufferTween that will automatically be returned to a pool when complete.
+     */
+    static public FloatBufferTween to(FloatBuffer target, int offset, int stride, float... endValues) {
+        return FloatBufferTween.newInstance(endValues.length)
+                .target(target)
+                .offset(offset)
+                .stride(stride)
+                .end(endValues);
+    }
+
     /**
      * Create a ColorTween for the given target, which only modifies the RGB channels of a Color. Defaults to LinearRgb
      * color space. A ColorTween can run on the same target as an {@link AlphaTween} without them interrupting each other.
@@ -243,6 +312,44 @@ public final class Tweens {
                 .end(end.r, end.g, end.b);
     }
 
+    /**
+     * Create a PackedColorArrayTween for the given elements of a float array of packed colors.
+     *
+     * @param target The array holding packed ABGR float bits colors that will be modified.
+     * @param offset The index of the first element to modify.
+     * @param stride The distance in the array between consecutive elements to modify.
+     * @param count  The number of elements to modify.
+     * @param endR   Final red value.
+     * @param endG   Final green value.
+     * @param endB   Final blue value.
+     * @param endA   Final alpha value.
+     * @return A PackedColorArrayTween that will automatically be returned to a pool when complete.
+     */
+    static public PackedColorArrayTween toPacked(float[] target, int offset, int stride, int count,
+                                                 float endR, float endG, float endB, float endA) {
+        return PackedColorArrayTween.newInstance()
+                .target(target)
+                .elements(offset, stride, count)
+                .end(endR, endG, endB, endA);
+    }
+
+    /**
+     * Create a PackedColorAccessorTween for the given target.
+     *
+     * @param target The accessor of the packed color that will be modified.
+     * @param endR   Final red value.
+     * @param endG   Final green value.
+     * @param endB   Final blue value.
+     * @param endA   Final alpha value.
+     * @return A PackedColorAccessorTween that will automatically be returned to a pool when complete.
+     */
+    static public PackedColorAccessorTween toPacked(PackedColorAccessorTween.Accessor target,
+                                                    float endR, float endG, float endB, float endA) {
+        return PackedColorAccessorTween.newInstance()
+                .target(target)
+                .end(endR, endG, endB, endA);
+    }
+
     /**
      * Create an AlphaTween for the givenTarget, which modifies the alpha channel of the Color target only. An AlphaTween
      * can run on the same target as a {@link ColorTween} without them interrupting each other.
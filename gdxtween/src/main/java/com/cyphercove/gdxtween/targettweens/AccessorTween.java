@@ -68,6 +68,19 @@ public class AccessorTween extends TargetTween<AccessorTween, AccessorTween.Acce
         void setValue (int index, float newValue);
     }
 
+    /**
+     * An Accessor that can apply all of its values in one call, which an AccessorTween uses instead of calling
+     * {@link #setValue(int, float)} for each value.
+     */
+    public interface BulkAccessor extends Accessor {
+        /**
+         * Apply new values to all of the items.
+         * @param newValues The new values, indexed the same as for {@link #setValue(int, float)}. The array must not be
+         *                  modified or retained.
+         */
+        void setValues (float[] newValues);
+    }
+
     public AccessorTween (int vectorSize){
         super(vectorSize);
     }
@@ -87,6 +100,14 @@ public class AccessorTween extends TargetTween<AccessorTween, AccessorTween.Acce
         target.setValue(vectorIndex, value);
     }
 
+    @Override
+    protected void applyAll (float[] values) {
+        if (target instanceof BulkAccessor)
+            ((BulkAccessor) target).setValues(values);
+        else
+            super.applyAll(values);
+    }
+
     public AccessorTween end (int vectorIndex, float value){
         super.setEndValue(vectorIndex, value);
         return this;
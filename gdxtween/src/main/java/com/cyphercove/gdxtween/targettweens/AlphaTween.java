@@ -69,6 +69,11 @@ public class AlphaTween extends TargetTween<AlphaTween, Color> {
         target.a = isDegamma ? GtColor.gammaCompress(value) : value;
     }
 
+    @Override
+    protected void applyAll(float[] values) {
+        apply(0, values[0]);
+    }
+
     public float getEnd() {
         return endA;
     }
@@ -41,12 +41,14 @@ public class ColorTween extends TargetTween<ColorTween, Color> {
 
     private ColorSpace colorSpace = ColorSpace.DegammaRgb;
     private float endR, endG, endB;
+    private ColorConverter converter;
 
     private final float[] accumulator = new float[3];
 
-    private static final float[] TMP_SHARED_1 = new float[3];
-    private static final float[] TMP_SHARED_2 = new float[3];
-    private static final Color TMP_SHARED_3 = new Color();
+    // Not shared between instances so tweens can begin on different threads.
+    private final float[] tmpStart = new float[3];
+    private final float[] tmpEnd = new float[3];
+    private final Color tmpColor = new Color();
 
     public ColorTween() {
         super(3);
@@ -60,6 +62,7 @@ public class ColorTween extends TargetTween<ColorTween, Color> {
     @Override
     protected void begin() {
         super.begin();
+        converter = CONVERTERS[colorSpace.ordinal()];
         float startR, startG, startB, endR, endG, endB;
         if (colorSpace.isDegamma) {
             startR = GtColor.gammaExpand(target.r);
@@ -76,172 +79,28 @@ public class ColorTween extends TargetTween<ColorTween, Color> {
             endG = this.endG;
             endB = this.endB;
         }
-        switch (colorSpace) {
-            case Rgb:
-            case DegammaRgb:
-                setStartValue(0, startR);
-                setStartValue(1, startG);
-                setStartValue(2, startB);
-                setEndValue(0, endR);
-                setEndValue(1, endG);
-                setEndValue(2, endB);
-                return;
-            case Hcl:
-            case DegammaHcl:
-                GtColor.toHcl(startR, startG, startB, TMP_SHARED_1);
-                GtColor.toHcl(endR, endG, endB, TMP_SHARED_2);
-                fixHxxStartEnd();
-                break;
-            case Hsl:
-            case DegammaHsl:
-                GtColor.toHsl(startR, startG, startB, TMP_SHARED_1);
-                GtColor.toHsl(endR, endG, endB, TMP_SHARED_2);
-                fixHxxStartEnd();
-                break;
-            case Hsv:
-            case DegammaHsv:
-                target.toHsv(TMP_SHARED_1);
-                TMP_SHARED_3.set(endR, endG, endB, 1f).toHsv(TMP_SHARED_2);
-                fixHxxStartEnd();
-                break;
-            case Lab:
-            case DegammaLab:
-                GtColor.toLab(startR, startG, startB, TMP_SHARED_1);
-                GtColor.toLab(endR, endG, endB, TMP_SHARED_2);
-                break;
-            case Lch:
-            case DegammaLch:
-                GtColor.toLch(startR, startG, startB, TMP_SHARED_1);
-                GtColor.toLch(endR, endG, endB, TMP_SHARED_2);
-                float startHue = TMP_SHARED_1[2];
-                float endHue = TMP_SHARED_2[2];
-                if (TMP_SHARED_1[1] < GtColor.CHROMA_THRESHOLD)
-                    TMP_SHARED_1[2] = endHue;
-                else if (TMP_SHARED_2[1] < GtColor.CHROMA_THRESHOLD)
-                    TMP_SHARED_2[2] = startHue;
-                else if (startHue - endHue > MathUtils.PI)
-                    TMP_SHARED_2[2] += MathUtils.PI2;
-                else if (endHue - startHue > MathUtils.PI)
-                    TMP_SHARED_1[2] += MathUtils.PI2;
-                break;
-            case LmsCompressed:
-            case DegammaLmsCompressed:
-                GtColor.toLmsCompressed(startR, startG, startB, TMP_SHARED_1);
-                GtColor.toLmsCompressed(endR, endG, endB, TMP_SHARED_2);
-                break;
-            case Ipt:
-            case DegammaIpt:
-                GtColor.toIpt(startR, startG, startB, TMP_SHARED_1);
-                GtColor.toIpt(endR, endG, endB, TMP_SHARED_2);
-                break;
-        }
+        converter.fromRgb(startR, startG, startB, tmpStart, tmpColor);
+        converter.fromRgb(endR, endG, endB, tmpEnd, tmpColor);
+        converter.fixStartEnd(tmpStart, tmpEnd);
         for (int i = 0; i < 3; i++) {
-            setStartValue(i, TMP_SHARED_1[i]);
-            setEndValue(i, TMP_SHARED_2[i]);
+            setStartValue(i, tmpStart[i]);
+            setEndValue(i, tmpEnd[i]);
         }
     }
 
-    private static void fixHxxStartEnd(){
-        float startHue = TMP_SHARED_1[0];
-        float endHue = TMP_SHARED_2[0];
-        if (TMP_SHARED_1[1] < GtColor.SATURATION_THRESHOLD)
-            TMP_SHARED_1[0] = endHue;
-        else if (TMP_SHARED_2[1] < GtColor.SATURATION_THRESHOLD)
-            TMP_SHARED_2[0] = startHue;
-        else if (startHue - endHue > 180f)
-            TMP_SHARED_2[0] += 360f;
-        else if (endHue - startHue > 180f)
-            TMP_SHARED_1[0] += 360f;
-        if (TMP_SHARED_1[2] == 0f)
-            TMP_SHARED_1[1] = TMP_SHARED_2[1];
-        else if (TMP_SHARED_2[2] == 0f)
-            TMP_SHARED_2[1] = TMP_SHARED_1[1];
-    }
-
+    /**
+     * Collects the components until the last one is applied, and then applies the color to the target.
+     */
     @Override
     protected void apply(int vectorIndex, float value) {
-        switch (colorSpace) {
-            case DegammaRgb:
-                value = GtColor.gammaCompress(value);
-                // fall through
-            case Rgb:
-                value = MathUtils.clamp(value, 0f, 1f);
-                switch (vectorIndex) {
-                    case 0:
-                        target.r = value;
-                        break;
-                    case 1:
-                        target.g = value;
-                        break;
-                    case 2:
-                        target.b = value;
-                        break;
-                }
-                break;
-            case Hcl:
-            case DegammaHcl:
-            case Hsl:
-            case DegammaHsl:
-            case Hsv:
-            case DegammaHsv:
-                if (vectorIndex == 0)
-                    value = GtMath.modulo(value, 360f);
-                accumulator[vectorIndex] = value;
-                break;
-            case Lab:
-            case DegammaLab:
-                if (vectorIndex == 0)
-                    value = Math.max(0f, value);
-                accumulator[vectorIndex] = value;
-                break;
-            case Lch:
-            case DegammaLch:
-                if (vectorIndex == 2)
-                    value = GtMath.modulo(value, 360f);
-                accumulator[vectorIndex] = value;
-                break;
-            case LmsCompressed:
-            case DegammaLmsCompressed:
-            case Ipt:
-            case DegammaIpt:
-                accumulator[vectorIndex] = value;
-                break;
-        }
+        accumulator[vectorIndex] = value;
+        if (vectorIndex == 2)
+            applyAll(accumulator);
     }
 
     @Override
-    protected void applyAfter() {
-        if (colorSpace == ColorSpace.Rgb || colorSpace == ColorSpace.DegammaRgb)
-            return;
-        switch (colorSpace) {
-            case Hsl:
-            case DegammaHsl:
-                GtColor.fromHsl(target, accumulator[0], accumulator[1], accumulator[2]);
-                break;
-            case Hcl:
-            case DegammaHcl:
-                GtColor.fromHcl(target, accumulator[0], accumulator[1], accumulator[2]);
-                break;
-            case Hsv:
-            case DegammaHsv:
-                target.fromHsv(accumulator[0], accumulator[1], accumulator[2]);
-                break;
-            case Lab:
-            case DegammaLab:
-                GtColor.fromLab(target, accumulator[0], accumulator[1], accumulator[2]);
-                break;
-            case Lch:
-            case DegammaLch:
-                GtColor.fromLch(target, accumulator[0], accumulator[1], accumulator[2]);
-                break;
-            case LmsCompressed:
-            case DegammaLmsCompressed:
-                GtColor.fromLmsCompressed(target, accumulator[0], accumulator[1], accumulator[2]);
-            case Ipt:
-            case DegammaIpt:
-                GtColor.fromIpt(target, accumulator[0], accumulator[1], accumulator[2]);
-                break;
-        }
+    protected void applyAll(float[] values) {
+        converter.toRgb(values, target);
         if (colorSpace.isDegamma) {
             target.r = GtColor.gammaCompress(target.r);
             target.g = GtColor.gammaCompress(target.g);
@@ -309,7 +168,229 @@ public class ColorTween extends TargetTween<ColorTween, Color> {
     public void free() {
         super.free();
         colorSpace = ColorSpace.DegammaRgb;
+        converter = null;
         POOL.free(this);
     }
 
+    /**
+     * Converts colors to and from the vector interpolated for a color space. One is selected when the tween begins, so
+     * applying values each frame does not need to check the color space.
+     */
+    private static abstract class ColorConverter {
+        /**
+         * Converts a color to the interpolated vector.
+         */
+        abstract void fromRgb(float r, float g, float b, float[] out, Color tmpColor);
+
+        /**
+         * Adjusts the start and end vectors so the interpolation between them takes the intended path.
+         */
+        void fixStartEnd(float[] start, float[] end) {
+        }
+
+        /**
+         * Sets the RGB components of the target from an interpolated vector.
+         */
+        abstract void toRgb(float[] values, Color target);
+    }
+
+    /**
+     * Adjusts the start and end of a vector with hue in the first element, saturation or chroma in the second, and
+     * lightness or value in the third.
+     */
+    private static void fixHxxStartEnd(float[] start, float[] end) {
+        float startHue = start[0];
+        float endHue = end[0];
+        if (start[1] < GtColor.SATURATION_THRESHOLD)
+            start[0] = endHue;
+        else if (end[1] < GtColor.SATURATION_THRESHOLD)
+            end[0] = startHue;
+        else if (startHue - endHue > 180f)
+            end[0] += 360f;
+        else if (endHue - startHue > 180f)
+            start[0] += 360f;
+        if (start[2] == 0f)
+            start[1] = end[1];
+        else if (end[2] == 0f)
+            end[1] = start[1];
+    }
+
+    private static final ColorConverter RGB = new ColorConverter() {
+        @Override
+        void fromRgb(float r, float g, float b, float[] out, Color tmpColor) {
+            out[0] = r;
+            out[1] = g;
+            out[2] = b;
+        }
+
+        @Override
+        void toRgb(float[] values, Color target) {
+            target.r = MathUtils.clamp(values[0], 0f, 1f);
+            target.g = MathUtils.clamp(values[1], 0f, 1f);
+            target.b = MathUtils.clamp(values[2], 0f, 1f);
+        }
+    };
+
+    private static final ColorConverter HSL = new ColorConverter() {
+        @Override
+        void fromRgb(float r, float g, float b, float[] out, Color tmpColor) {
+            GtColor.toHsl(r, g, b, out);
+        }
+
+        @Override
+        void fixStartEnd(float[] start, float[] end) {
+            fixHxxStartEnd(start, end);
+        }
+
+        @Override
+        void toRgb(float[] values, Color target) {
+            GtColor.fromHsl(target, GtMath.modulo(values[0], 360f), values[1], values[2]);
+        }
+    };
+
+    private static final ColorConverter HCL = new ColorConverter() {
+        @Override
+        void fromRgb(float r, float g, float b, float[] out, Color tmpColor) {
+            GtColor.toHcl(r, g, b, out);
+        }
+
+        @Override
+        void fixStartEnd(float[] start, float[] end) {
+            fixHxxStartEnd(start, end);
+        }
+
+        @Override
+        void toRgb(float[] values, Color target) {
+            GtColor.fromHcl(target, GtMath.modulo(values[0], 360f), values[1], values[2]);
+        }
+    };
+
+    private static final ColorConverter HSV = new ColorConverter() {
+        @Override
+        void fromRgb(float r, float g, float b, float[] out, Color tmpColor) {
+            tmpColor.set(r, g, b, 1f).toHsv(out);
+        }
+
+        @Override
+        void fixStartEnd(float[] start, float[] end) {
+            fixHxxStartEnd(start, end);
+        }
+
+        @Override
+        void toRgb(float[] values, Color target) {
+            target.fromHsv(GtMath.modulo(values[0], 360f), values[1], values[2]);
+        }
+    };
+
+    private static final ColorConverter LAB = new ColorConverter() {
+        @Override
+        void fromRgb(float r, float g, float b, float[] out, Color tmpColor) {
+            GtColor.toLab(r, g, b, out);
+        }
+
+        @Override
+        void toRgb(float[] values, Color target) {
+            GtColor.fromLab(target, Math.max(0f, values[0]), values[1], values[2]);
+        }
+    };
+
+    private static final ColorConverter LCH = new ColorConverter() {
+        @Override
+        void fromRgb(float r, float g, float b, float[] out, Color tmpColor) {
+            GtColor.toLch(r, g, b, out);
+        }
+
+        @Override
+        void fixStartEnd(float[] start, float[] end) {
+            float startHue = start[2];
+            float endHue = end[2];
+            if (start[1] < GtColor.CHROMA_THRESHOLD)
+                start[2] = endHue;
+            else if (end[1] < GtColor.CHROMA_THRESHOLD)
+                end[2] = startHue;
+            else if (startHue - endHue > MathUtils.PI)
+                end[2] += MathUtils.PI2;
+            else if (endHue - startHue > MathUtils.PI)
+                start[2] += MathUtils.PI2;
+        }
+
+        @Override
+        void toRgb(float[] values, Color target) {
+            GtColor.fromLch(target, values[0], values[1], GtMath.modulo(values[2], 360f));
+        }
+    };
+
+    private static final ColorConverter LMS_COMPRESSED = new ColorConverter() {
+        @Override
+        void fromRgb(float r, float g, float b, float[] out, Color tmpColor) {
+            GtColor.toLmsCompressed(r, g, b, out);
+        }
+
+        @Override
+        void toRgb(float[] values, Color target) {
+            GtColor.fromLmsCompressed(target, values[0], values[1], values[2]);
+        }
+    };
+
+    private static final ColorConverter IPT = new ColorConverter() {
+        @Override
+        void fromRgb(float r, float g, float b, float[] out, Color tmpColor) {
+            GtColor.toIpt(r, g, b, out);
+        }
+
+        @Override
+        void toRgb(float[] values, Color target) {
+            GtColor.fromIpt(target, values[0], values[1], values[2]);
+        }
+    };
+
+    /**
+     * The converter for each {@link ColorSpace}, by ordinal. The gamma handling of the Degamma spaces is done by the
+     * tween, so they share converters with their linear counterparts.
+     */
+    private static final ColorConverter[] CONVERTERS = new ColorConverter[ColorSpace.values().length];
+
+    static {
+        for (ColorSpace colorSpace : ColorSpace.values()) {
+            ColorConverter converter;
+            switch (colorSpace) {
+                case Rgb:
+                case DegammaRgb:
+                    converter = RGB;
+                    break;
+                case Hsl:
+                case DegammaHsl:
+                    converter = HSL;
+                    break;
+                case Hcl:
+                case DegammaHcl:
+                    converter = HCL;
+                    break;
+                case Hsv:
+                case DegammaHsv:
+                    converter = HSV;
+                    break;
+                case Lab:
+                case DegammaLab:
+                    converter = LAB;
+                    break;
+                case Lch:
+                case DegammaLch:
+                    converter = LCH;
+                    break;
+                case LmsCompressed:
+                case DegammaLmsCompressed:
+                    converter = LMS_COMPRESSED;
+                    break;
+                case Ipt:
+                case DegammaIpt:
+                    converter = IPT;
+                    break;
+                default:
+                    throw new IllegalStateException("Unhandled color space: " + colorSpace);
+            }
+            CONVERTERS[colorSpace.ordinal()] = converter;
+        }
+    }
+
 }
@@ -0,0 +1,94 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween.targettweens;
+
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * A FloatArrayTween writes its values directly into elements of a float array, such as vertex or particle data. See
+ * {@link StridedFloatTween} for how the elements are laid out and how tweens on the same array interrupt each other.
+ * <p>
+ * For a {@link com.badlogic.gdx.utils.FloatArray}, target its {@code items}. The FloatArray must not grow while the
+ * tween is running, because that replaces its items array.
+ */
+public class FloatArrayTween extends StridedFloatTween<FloatArrayTween, float[]> {
+
+    static private final IntMap<Pool<FloatArrayTween>> pools = new IntMap<Pool<FloatArrayTween>>();
+
+    static private Pool<FloatArrayTween> getPool(final int count) {
+        Pool<FloatArrayTween> pool = pools.get(count);
+        if (pool == null) {
+            pool = new Pool<FloatArrayTween>() {
+                @Override
+                protected FloatArrayTween newObject() {
+                    return new FloatArrayTween(count);
+                }
+            };
+            pools.put(count, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * @param count The number of elements the tween will modify.
+     * @return A FloatArrayTween from the pool for the given number of elements.
+     */
+    public static FloatArrayTween newInstance(int count) {
+        return getPool(count).obtain();
+    }
+
+    public FloatArrayTween(int count) {
+        super(count);
+    }
+
+    @Override
+    public Class<float[]> getTargetType() {
+        return float[].class;
+    }
+
+    @Override
+    protected int getTargetLength() {
+        return target.length;
+    }
+
+    protected void begin() {
+        super.begin();
+        float[] target = this.target;
+        for (int i = 0, index = offset; i < vectorSize; i++, index += stride) {
+            setStartValue(i, target[index]);
+        }
+    }
+
+    protected void apply(int vectorIndex, float value) {
+        target[offset + vectorIndex * stride] = value;
+    }
+
+    @Override
+    protected void applyAll(float[] values) {
+        float[] target = this.target;
+        int stride = this.stride;
+        for (int i = 0, index = offset; i < vectorSize; i++, index += stride) {
+            target[index] = values[i];
+        }
+    }
+
+    @Override
+    public void free() {
+        super.free();
+        getPool(vectorSize).free(this);
+    }
+}
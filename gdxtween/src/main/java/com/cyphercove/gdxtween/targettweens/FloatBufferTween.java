@@ -0,0 +1,199 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween.targettweens;
+
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.Pool;
+
+import java.nio.FloatBuffer;
+
+/**
+ * A FloatBufferTween writes its values directly into elements of a FloatBuffer at absolute indices, without changing
+ * its position. The buffer can be direct, such as the vertex buffer of a mesh, so animated vertex data does not need
+ * to be copied into it every frame. See {@link StridedFloatTween} for how the elements are laid out and how tweens on
+ * the same buffer interrupt each other. Tweens only interrupt each other if they target the same FloatBuffer instance,
+ * not different views of the same memory.
+ * <p>
+ * A {@link DirtyRange} can be shared by the tweens on a buffer to find the part of it that was modified since it was
+ * last uploaded.
+ */
+public class FloatBufferTween extends StridedFloatTween<FloatBufferTween, FloatBuffer> {
+
+    /**
+     * Tracks the range of buffer indices that tweens have written to since it was last cleared. Typically, one is
+     * shared by all tweens on a buffer, and after stepping the TweenRunner, only the dirty range of the buffer is
+     * uploaded before clearing it.
+     * <p>
+     * Tweens on different elements of a buffer don't interrupt each other, so with
+     * {@linkplain com.cyphercove.gdxtween.TweenRunner#setParallelStepping parallel stepping}, they can expand a shared
+     * range from several threads at once. {@link #include(int, int)} only synchronizes while a TweenRunner is stepping in
+     * parallel, so it must not be called from other threads at other times.
+     */
+    public static final class DirtyRange {
+        private int start = Integer.MAX_VALUE;
+        private int end = Integer.MIN_VALUE;
+
+        /**
+         * Expands the range to include the given indices.
+         *
+         * @param first The first index written.
+         * @param last  The last index written.
+         */
+        public void include(int first, int last) {
+            if (isSteppingInParallel()) {
+                synchronized (this) {
+                    expand(first, last);
+                }
+            } else {
+                expand(first, last);
+            }
+        }
+
+        private void expand(int first, int last) {
+            if (first < start)
+                start = first;
+            if (last >= end)
+                end = last + 1;
+        }
+
+        /**
+         * @return Whether nothing has been written since the range was cleared.
+         */
+        public boolean isEmpty() {
+            return end <= start;
+        }
+
+        /**
+         * @return The first dirty index. Only valid if the range is not empty.
+         */
+        public int getStart() {
+            return start;
+        }
+
+        /**
+         * @return One past the last dirty index. Only valid if the range is not empty.
+         */
+        public int getEnd() {
+            return end;
+        }
+
+        /**
+         * @return The number of elements from the first to the last dirty index, or 0 if the range is empty.
+         */
+        public int getLength() {
+            return isEmpty() ? 0 : end - start;
+        }
+
+        public void clear() {
+            start = Integer.MAX_VALUE;
+            end = Integer.MIN_VALUE;
+        }
+
+        @Override
+        public String toString() {
+            return isEmpty() ? "DirtyRange[]" : "DirtyRange[" + start + ", " + end + ")";
+        }
+    }
+
+    static private final IntMap<Pool<FloatBufferTween>> pools = new IntMap<Pool<FloatBufferTween>>();
+
+    static private Pool<FloatBufferTween> getPool(final int count) {
+        Pool<FloatBufferTween> pool = pools.get(count);
+        if (pool == null) {
+            pool = new Pool<FloatBufferTween>() {
+                @Override
+                protected FloatBufferTween newObject() {
+                    return new FloatBufferTween(count);
+                }
+            };
+            pools.put(count, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * @param count The number of elements the tween will modify.
+     * @return A FloatBufferTween from the pool for the given number of elements.
+     */
+    public static FloatBufferTween newInstance(int count) {
+        return getPool(count).obtain();
+    }
+
+    private DirtyRange dirtyRange;
+
+    public FloatBufferTween(int count) {
+        super(count);
+    }
+
+    @Override
+    public Class<FloatBuffer> getTargetType() {
+        return FloatBuffer.class;
+    }
+
+    @Override
+    protected int getTargetLength() {
+        return target.limit();
+    }
+
+    /**
+     * Sets a range to expand with the indices this tween writes to each time it applies values.
+     *
+     * @param dirtyRange The range to update, or null.
+     * @return This tween for building.
+     */
+    public FloatBufferTween dirtyRange(DirtyRange dirtyRange) {
+        if (checkModifiable())
+            this.dirtyRange = dirtyRange;
+        return this;
+    }
+
+    public DirtyRange getDirtyRange() {
+        return dirtyRange;
+    }
+
+    protected void begin() {
+        super.begin();
+        FloatBuffer target = this.target;
+        for (int i = 0, index = offset; i < vectorSize; i++, index += stride) {
+            setStartValue(i, target.get(index));
+        }
+    }
+
+    protected void apply(int vectorIndex, float value) {
+        int index = offset + vectorIndex * stride;
+        target.put(index, value);
+        if (dirtyRange != null)
+            dirtyRange.include(index, index);
+    }
+
+    @Override
+    protected void applyAll(float[] values) {
+        FloatBuffer target = this.target;
+        int stride = this.stride;
+        for (int i = 0, index = offset; i < vectorSize; i++, index += stride) {
+            target.put(index, values[i]);
+        }
+        if (dirtyRange != null)
+            dirtyRange.include(offset, getLastIndex());
+    }
+
+    @Override
+    public void free() {
+        super.free();
+        dirtyRange = null;
+        getPool(vectorSize).free(this);
+    }
+}
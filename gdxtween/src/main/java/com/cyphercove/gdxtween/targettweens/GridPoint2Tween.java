@@ -59,6 +59,12 @@ public class GridPoint2Tween extends TargetTween<GridPoint2Tween, GridPoint2> {
         }
     }
 
+    @Override
+    protected void applyAll(float[] values) {
+        target.x = Math.round(values[0]);
+        target.y = Math.round(values[1]);
+    }
+
     public GridPoint2Tween end(int endX, int endY) {
         setEndValue(0, endX);
         setEndValue(1, endY);
@@ -63,6 +63,13 @@ public class GridPoint3Tween extends TargetTween<GridPoint3Tween, GridPoint3> {
         }
     }
 
+    @Override
+    protected void applyAll(float[] values) {
+        target.x = Math.round(values[0]);
+        target.y = Math.round(values[1]);
+        target.z = Math.round(values[2]);
+    }
+
     public GridPoint3Tween end(int endX, int endY, int endZ) {
         setEndValue(0, endX);
         setEndValue(1, endY);
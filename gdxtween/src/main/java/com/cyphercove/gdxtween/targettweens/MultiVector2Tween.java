@@ -0,0 +1,212 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween.targettweens;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.Pool;
+import com.cyphercove.gdxtween.TargetTween;
+
+import java.util.Arrays;
+
+/**
+ * A MultiVector2Tween moves many Vector2s with a single tween that shares one duration, ease and time. The start and
+ * end values of all the Vector2s are held in one vector, so this costs much less than a Vector2Tween per Vector2.
+ * <p>
+ * For interruption, it behaves as a separate {@link Vector2Tween} on each Vector2. Starting one interrupts Vector2Tweens
+ * on any of its Vector2s, and starting a Vector2Tween, or another MultiVector2Tween, on one of its Vector2s stops it
+ * from modifying only that Vector2. It is canceled and its {@linkplain #interruptionListener(com.cyphercove.gdxtween.TweenInterruptionListener)
+ * interruption listener} is called once all of its Vector2s have been interrupted. It does not blend into the speeds of
+ * tweens it interrupts.
+ * <p>
+ * The target array and its Vector2s must not be changed while the tween is running.
+ */
+public class MultiVector2Tween extends TargetTween<MultiVector2Tween, Vector2[]> {
+
+    static private final IntMap<Pool<MultiVector2Tween>> pools = new IntMap<Pool<MultiVector2Tween>>();
+
+    static private Pool<MultiVector2Tween> getPool(final int targetCount) {
+        Pool<MultiVector2Tween> pool = pools.get(targetCount);
+        if (pool == null) {
+            pool = new Pool<MultiVector2Tween>() {
+                @Override
+                protected MultiVector2Tween newObject() {
+                    return new MultiVector2Tween(targetCount);
+                }
+            };
+            pools.put(targetCount, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * @param targetCount The number of Vector2s the tween will move. Must match the length of the target array.
+     * @return A MultiVector2Tween from the pool for the given number of Vector2s.
+     */
+    public static MultiVector2Tween newInstance(int targetCount) {
+        return getPool(targetCount).obtain();
+    }
+
+    private final int targetCount;
+    private final boolean[] interrupted;
+    private int interruptedCount;
+
+    public MultiVector2Tween(int targetCount) {
+        super(targetCount * 2);
+        this.targetCount = targetCount;
+        interrupted = new boolean[targetCount];
+    }
+
+    /**
+     * @return The number of Vector2s this tween moves.
+     */
+    public int getTargetCount() {
+        return targetCount;
+    }
+
+    @Override
+    public Class<Vector2[]> getTargetType() {
+        return Vector2[].class;
+    }
+
+    protected void begin() {
+        super.begin();
+        if (target.length != targetCount)
+            throw new IllegalStateException("The target array length " + target.length
+                    + " does not match the target count " + targetCount + ": " + this);
+        for (int i = 0; i < targetCount; i++) {
+            Vector2 vector = target[i];
+            setStartValue(i * 2, vector.x);
+            setStartValue(i * 2 + 1, vector.y);
+        }
+    }
+
+    protected void apply(int vectorIndex, float value) {
+        int index = vectorIndex / 2;
+        if (interrupted[index])
+            return;
+        if (vectorIndex % 2 == 0)
+            target[index].x = value;
+        else
+            target[index].y = value;
+    }
+
+    @Override
+    protected void applyAll(float[] values) {
+        Vector2[] target = this.target;
+        boolean[] interrupted = this.interrupted;
+        for (int i = 0; i < targetCount; i++) {
+            if (interrupted[i])
+                continue;
+            Vector2 vector = target[i];
+            vector.x = values[i * 2];
+            vector.y = values[i * 2 + 1];
+        }
+    }
+
+    /**
+     * Sets the end values of all the Vector2s.
+     *
+     * @param endXY The end values as consecutive x and y pairs, in the same order as the targets. The reference is
+     *              not retained by the tween.
+     * @return This tween for building.
+     */
+    public MultiVector2Tween end(float[] endXY) {
+        if (endXY.length != targetCount * 2)
+            throw new IllegalArgumentException("endXY must have two values for each of the " + targetCount + " targets.");
+        for (int i = 0; i < endXY.length; i++) {
+            setEndValue(i, endXY[i]);
+        }
+        return this;
+    }
+
+    /**
+     * Sets the end values of one of the Vector2s.
+     *
+     * @param index The index of the Vector2 in the target array.
+     * @param endX  Final x value.
+     * @param endY  Final y value.
+     * @return This tween for building.
+     */
+    public MultiVector2Tween end(int index, float endX, float endY) {
+        setEndValue(index * 2, endX);
+        setEndValue(index * 2 + 1, endY);
+        return this;
+    }
+
+    public float getEndX(int index) {
+        return getEndValue(index * 2);
+    }
+
+    public float getEndY(int index) {
+        return getEndValue(index * 2 + 1);
+    }
+
+    /**
+     * @param index The index of the Vector2 in the target array.
+     * @return Whether the tween has stopped modifying the Vector2 because another tween interrupted it.
+     */
+    public boolean isInterrupted(int index) {
+        return interrupted[index];
+    }
+
+    @Override
+    protected float[] prepareToInterrupt() {
+        return null;
+    }
+
+    @Override
+    protected Class<? extends TargetTween<?, ?>> getInterruptionType() {
+        return Vector2Tween.class;
+    }
+
+    @Override
+    protected int getInterruptionTargetCount() {
+        return targetCount;
+    }
+
+    @Override
+    protected Object getInterruptionTarget(int index) {
+        return target == null || index >= target.length ? null : target[index];
+    }
+
+    @Override
+    protected boolean isInterruptionTargetActive(int index) {
+        return !interrupted[index];
+    }
+
+    @Override
+    protected boolean interruptTarget(int index, Class<? extends TargetTween<?, ?>> tweenType, Object target,
+                                      TargetTween<?, ?> interruptingTween, float[] requestedWorldSpeeds) {
+        if (isCanceled() || interrupted[index] || tweenType != Vector2Tween.class || target != this.target[index])
+            return false;
+        if (requestedWorldSpeeds != null && isStarted())
+            getWorldSpeeds(requestedWorldSpeeds, index * 2, 2);
+        interrupted[index] = true;
+        if (++interruptedCount < targetCount)
+            return true;
+        // Every Vector2 is interrupted, so the whole tween is canceled and its listener called.
+        return checkInterruption(tweenType, this.target, null);
+    }
+
+    @Override
+    public void free() {
+        super.free();
+        Arrays.fill(interrupted, false);
+        interruptedCount = 0;
+        getPool(targetCount).free(this);
+    }
+}
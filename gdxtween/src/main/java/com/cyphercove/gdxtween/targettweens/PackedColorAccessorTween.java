@@ -0,0 +1,72 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween.targettweens;
+
+import com.badlogic.gdx.utils.Pool;
+
+/**
+ * A PackedColorAccessorTween changes a packed color through an {@link Accessor}, such as one wrapping
+ * {@link com.badlogic.gdx.graphics.g2d.Sprite#getPackedColor()} and
+ * {@link com.badlogic.gdx.graphics.g2d.Sprite#setPackedColor(float)}. See {@link PackedColorTween}.
+ */
+public class PackedColorAccessorTween
+        extends PackedColorTween<PackedColorAccessorTween, PackedColorAccessorTween.Accessor> {
+
+    private static final Pool<PackedColorAccessorTween> POOL = new Pool<PackedColorAccessorTween>() {
+        @Override
+        protected PackedColorAccessorTween newObject() {
+            return new PackedColorAccessorTween();
+        }
+    };
+
+    public static PackedColorAccessorTween newInstance() {
+        return POOL.obtain();
+    }
+
+    public interface Accessor {
+        /**
+         * @return The current color as packed ABGR float bits.
+         */
+        float getPackedColor();
+
+        /**
+         * Apply a new color.
+         * @param packedColor The new color as packed ABGR float bits.
+         */
+        void setPackedColor(float packedColor);
+    }
+
+    @Override
+    public Class<Accessor> getTargetType() {
+        return Accessor.class;
+    }
+
+    @Override
+    protected float getPackedColor() {
+        return target.getPackedColor();
+    }
+
+    @Override
+    protected void setPackedColor(float packedColor) {
+        target.setPackedColor(packedColor);
+    }
+
+    @Override
+    public void free() {
+        super.free();
+        POOL.free(this);
+    }
+}
@@ -0,0 +1,128 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween.targettweens;
+
+import com.badlogic.gdx.utils.Pool;
+import com.cyphercove.gdxtween.TargetTween;
+
+/**
+ * A PackedColorArrayTween changes packed colors stored in a float array, such as the color attribute of vertices
+ * being submitted to a SpriteBatch. The color is read from the first element when the tween begins, and every element
+ * it modifies is set to the same color. The elements start at an offset and are a fixed stride apart, for example a
+ * stride of 5 for the four vertices of a sprite in SpriteBatch's vertex format. See {@link PackedColorTween}.
+ * <p>
+ * Tweens on the same array only interrupt each other if their elements overlap. Any overlap cancels the whole
+ * interrupted tween, as with {@link StridedFloatTween}.
+ */
+public class PackedColorArrayTween extends PackedColorTween<PackedColorArrayTween, float[]> {
+
+    private static final Pool<PackedColorArrayTween> POOL = new Pool<PackedColorArrayTween>() {
+        @Override
+        protected PackedColorArrayTween newObject() {
+            return new PackedColorArrayTween();
+        }
+    };
+
+    public static PackedColorArrayTween newInstance() {
+        return POOL.obtain();
+    }
+
+    private int offset;
+    private int stride = 1;
+    private int count = 1;
+
+    @Override
+    public Class<float[]> getTargetType() {
+        return float[].class;
+    }
+
+    /**
+     * Sets which elements of the array hold the color.
+     *
+     * @param offset The index of the first element. Must not be negative.
+     * @param stride The distance between consecutive elements. Must be at least 1.
+     * @param count  The number of elements. Must be at least 1.
+     * @return This tween for building.
+     */
+    public PackedColorArrayTween elements(int offset, int stride, int count) {
+        if (offset < 0)
+            throw new IllegalArgumentException("offset must not be negative.");
+        if (stride < 1)
+            throw new IllegalArgumentException("stride must be at least 1.");
+        if (count < 1)
+            throw new IllegalArgumentException("count must be at least 1.");
+        if (checkModifiable()) {
+            this.offset = offset;
+            this.stride = stride;
+            this.count = count;
+        }
+        return this;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getStride() {
+        return stride;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    protected void begin() {
+        super.begin();
+        if (offset + (count - 1) * stride >= target.length)
+            throw new IllegalStateException("The elements of the tween extend past the end of the target array: "
+                    + this);
+    }
+
+    @Override
+    protected float getPackedColor() {
+        return target[offset];
+    }
+
+    @Override
+    protected void setPackedColor(float packedColor) {
+        float[] target = this.target;
+        int stride = this.stride;
+        for (int i = 0, index = offset; i < count; i++, index += stride) {
+            target[index] = packedColor;
+        }
+    }
+
+    @Override
+    protected boolean interruptTarget(int index, Class<? extends TargetTween<?, ?>> tweenType, Object target,
+                                      TargetTween<?, ?> interruptingTween, float[] requestedWorldSpeeds) {
+        if (interruptingTween instanceof PackedColorArrayTween) {
+            PackedColorArrayTween other = (PackedColorArrayTween) interruptingTween;
+            if (!StridedFloatTween.overlaps(offset, stride, count, other.offset, other.stride, other.count))
+                return false;
+        }
+        return super.interruptTarget(index, tweenType, target, interruptingTween, requestedWorldSpeeds);
+    }
+
+    @Override
+    public void free() {
+        super.free();
+        offset = 0;
+        stride = 1;
+        count = 1;
+        POOL.free(this);
+    }
+}
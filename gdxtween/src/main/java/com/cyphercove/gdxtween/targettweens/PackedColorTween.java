@@ -0,0 +1,122 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween.targettweens;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.cyphercove.gdxtween.TargetTween;
+
+/**
+ * Base class for tweens that change a color stored as packed ABGR float bits, the format {@link Color#toFloatBits()}
+ * produces and that SpriteBatch and Sprite use for tinting. The red, green, blue and alpha components are interpolated
+ * linearly in RGB space, and the values applied are clamped to [0, 1] and rounded to the nearest of the 256 levels
+ * a packed color can hold. As with {@link Color#toFloatBits()}, the lowest bit of alpha is lost in packing.
+ * <p>
+ * No {@link Color} objects are needed, so these are cheaper than {@link ColorTween ColorTweens} for tinting large
+ * numbers of sprites.
+ *
+ * @param <T>  The type of this tween.
+ * @param <TG> The type of target the tween operates on.
+ */
+public abstract class PackedColorTween<T, TG> extends TargetTween<T, TG> {
+
+    protected PackedColorTween() {
+        super(4);
+    }
+
+    /**
+     * @return The packed color of the target at the time the tween begins.
+     */
+    protected abstract float getPackedColor();
+
+    /**
+     * Applies a new packed color to the target.
+     *
+     * @param packedColor The color as packed ABGR float bits.
+     */
+    protected abstract void setPackedColor(float packedColor);
+
+    @Override
+    protected void begin() {
+        super.begin();
+        int abgr = NumberUtils.floatToIntColor(getPackedColor());
+        setStartValue(0, (abgr & 0xff) / 255f);
+        setStartValue(1, ((abgr >>> 8) & 0xff) / 255f);
+        setStartValue(2, ((abgr >>> 16) & 0xff) / 255f);
+        setStartValue(3, ((abgr >>> 24) & 0xff) / 255f);
+    }
+
+    protected void apply(int vectorIndex, float value) {
+        // Only a whole color can be packed.
+    }
+
+    @Override
+    protected void applyAll(float[] values) {
+        int abgr = (toByte(values[3]) << 24) | (toByte(values[2]) << 16) | (toByte(values[1]) << 8) | toByte(values[0]);
+        setPackedColor(NumberUtils.intToFloatColor(abgr));
+    }
+
+    private static int toByte(float value) {
+        return value <= 0f ? 0 : (value >= 1f ? 255 : (int) (value * 255f + 0.5f));
+    }
+
+    @SuppressWarnings("unchecked")
+    public T end(float endR, float endG, float endB, float endA) {
+        setEndValue(0, endR);
+        setEndValue(1, endG);
+        setEndValue(2, endB);
+        setEndValue(3, endA);
+        return (T) this;
+    }
+
+    /**
+     * Sets the end color.
+     *
+     * @param end The end color. The reference is not retained by the tween.
+     * @return This tween for building.
+     */
+    public T end(Color end) {
+        return end(end.r, end.g, end.b, end.a);
+    }
+
+    /**
+     * Sets the end color.
+     *
+     * @param endPackedColor The end color as packed ABGR float bits.
+     * @return This tween for building.
+     */
+    public T end(float endPackedColor) {
+        int abgr = NumberUtils.floatToIntColor(endPackedColor);
+        return end((abgr & 0xff) / 255f, ((abgr >>> 8) & 0xff) / 255f, ((abgr >>> 16) & 0xff) / 255f,
+                ((abgr >>> 24) & 0xff) / 255f);
+    }
+
+    public float getEndR() {
+        return getEndValue(0);
+    }
+
+    public float getEndG() {
+        return getEndValue(1);
+    }
+
+    public float getEndB() {
+        return getEndValue(2);
+    }
+
+    public float getEndA() {
+        return getEndValue(3);
+    }
+}
@@ -52,6 +52,11 @@ public class ScalarIntTween extends TargetTween<ScalarIntTween, ScalarInt> {
         target.x = Math.round(value);
     }
 
+    @Override
+    protected void applyAll(float[] values) {
+        target.x = Math.round(values[0]);
+    }
+
     public ScalarIntTween end(float end) {
         setEndValue(0, end);
         return this;
@@ -52,6 +52,11 @@ public class ScalarTween extends TargetTween<ScalarTween, Scalar> {
         target.x = value;
     }
 
+    @Override
+    protected void applyAll(float[] values) {
+        target.x = values[0];
+    }
+
     public ScalarTween end(float end) {
         setEndValue(0, end);
         return this;
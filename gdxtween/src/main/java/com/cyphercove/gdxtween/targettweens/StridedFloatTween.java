@@ -0,0 +1,209 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween.targettweens;
+
+import com.cyphercove.gdxtween.TargetTween;
+
+/**
+ * Base class for tweens that modify elements of a flat buffer of floats, starting at an offset and a fixed stride
+ * apart, so a single tween can animate one attribute of many interleaved vertices.
+ * <p>
+ * Tweens of the same type on the same buffer only interrupt each other if their elements overlap, so tweens on
+ * different attributes or different ranges of one buffer can run at the same time. When one
+ * {@linkplain com.cyphercove.gdxtween.Ease.BlendInEase blends} into a tween it interrupts, each element starts at the
+ * speed of the same buffer element in the interrupted tween.
+ * <p>
+ * Interruption is not per element. If any element of a new tween overlaps this one, this whole tween is canceled,
+ * including the elements that do not overlap, which then stop where they are. The TweenRunner's interruption index
+ * also keeps all the tweens on one buffer in a single list, so starting a tween compares it against every running
+ * tween of the same type on its buffer. Prefer splitting work across tweens whose elements don't overlap, and avoid
+ * keeping very many tweens running on one buffer.
+ *
+ * @param <T>  The type of this tween.
+ * @param <TG> The type of buffer the tween operates on.
+ */
+public abstract class StridedFloatTween<T, TG> extends TargetTween<T, TG> {
+
+    protected int offset;
+    protected int stride = 1;
+    private final float[] elementSpeed = new float[1];
+
+    protected StridedFloatTween(int count) {
+        super(count);
+    }
+
+    /**
+     * @return The number of elements this tween modifies.
+     */
+    public int getCount() {
+        return vectorSize;
+    }
+
+    /**
+     * Sets the index of the first element to modify. The default is 0.
+     *
+     * @param offset The index in the buffer of the first element.
+     * @return This tween for building.
+     */
+    @SuppressWarnings("unchecked")
+    public T offset(int offset) {
+        if (offset < 0)
+            throw new IllegalArgumentException("offset must not be negative.");
+        if (checkModifiable())
+            this.offset = offset;
+        return (T) this;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    /**
+     * Sets the distance in the buffer between consecutive elements to modify. The default is 1.
+     *
+     * @param stride The distance between elements. Must be at least 1.
+     * @return This tween for building.
+     */
+    @SuppressWarnings("unchecked")
+    public T stride(int stride) {
+        if (stride < 1)
+            throw new IllegalArgumentException("stride must be at least 1.");
+        if (checkModifiable())
+            this.stride = stride;
+        return (T) this;
+    }
+
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * @return The index in the buffer of the last element this tween modifies.
+     */
+    public int getLastIndex() {
+        return offset + (vectorSize - 1) * stride;
+    }
+
+    /**
+     * @return The number of elements in the target that can be modified.
+     */
+    protected abstract int getTargetLength();
+
+    @Override
+    protected void begin() {
+        super.begin();
+        if (getLastIndex() >= getTargetLength())
+            throw new IllegalStateException("The elements of the tween extend past the end of the target: " + this);
+    }
+
+    /**
+     * Sets the end values of all the elements.
+     *
+     * @param endValues The end values, with one for each element. The reference is not retained by the tween.
+     * @return This tween for building.
+     */
+    @SuppressWarnings("unchecked")
+    public T end(float... endValues) {
+        if (endValues.length != vectorSize)
+            throw new IllegalArgumentException("There must be one end value for each of the " + vectorSize
+                    + " elements.");
+        for (int i = 0; i < vectorSize; i++) {
+            setEndValue(i, endValues[i]);
+        }
+        return (T) this;
+    }
+
+    /**
+     * Sets the end value of one of the elements.
+     *
+     * @param vectorIndex The index of the element among those this tween modifies, not its index in the buffer.
+     * @param endValue    The final value.
+     * @return This tween for building.
+     */
+    @SuppressWarnings("unchecked")
+    public T end(int vectorIndex, float endValue) {
+        setEndValue(vectorIndex, endValue);
+        return (T) this;
+    }
+
+    public float getEndValue(int vectorIndex) {
+        return super.getEndValue(vectorIndex);
+    }
+
+    /**
+     * @param index An index in the target buffer.
+     * @return The index of the element this tween modifies at the given buffer index, or -1 if it does not modify it.
+     */
+    private int getVectorIndex(int index) {
+        return getElementIndex(index, offset, stride, vectorSize);
+    }
+
+    /**
+     * @return The position of the given buffer index among the elements of a strided range, or -1 if it is not one
+     * of them.
+     */
+    static int getElementIndex(int index, int offset, int stride, int count) {
+        int fromOffset = index - offset;
+        if (fromOffset < 0 || fromOffset % stride != 0)
+            return -1;
+        int elementIndex = fromOffset / stride;
+        return elementIndex < count ? elementIndex : -1;
+    }
+
+    /**
+     * @return Whether two strided ranges of buffer indices have any index in common.
+     */
+    static boolean overlaps(int offset, int stride, int count, int otherOffset, int otherStride, int otherCount) {
+        if (offset + (count - 1) * stride < otherOffset || otherOffset + (otherCount - 1) * otherStride < offset)
+            return false;
+        if (count > otherCount)
+            return overlaps(otherOffset, otherStride, otherCount, offset, stride, count);
+        for (int i = 0, index = offset; i < count; i++, index += stride) {
+            if (getElementIndex(index, otherOffset, otherStride, otherCount) >= 0)
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    protected boolean interruptTarget(int index, Class<? extends TargetTween<?, ?>> tweenType, Object target,
+                                      TargetTween<?, ?> interruptingTween, float[] requestedWorldSpeeds) {
+        if (!(interruptingTween instanceof StridedFloatTween))
+            return super.interruptTarget(index, tweenType, target, interruptingTween, requestedWorldSpeeds);
+        StridedFloatTween<?, ?> other = (StridedFloatTween<?, ?>) interruptingTween;
+        if (isCanceled() || tweenType != getInterruptionType() || target != this.target
+                || !overlaps(offset, stride, vectorSize, other.offset, other.stride, other.vectorSize))
+            return false;
+        if (requestedWorldSpeeds != null && isStarted()) {
+            // The two tweens' vectors can be laid out differently, so match the speeds by buffer index.
+            for (int i = 0, bufferIndex = other.offset; i < other.vectorSize; i++, bufferIndex += other.stride) {
+                int vectorIndex = getVectorIndex(bufferIndex);
+                if (vectorIndex >= 0) {
+                    getWorldSpeeds(elementSpeed, vectorIndex, 1);
+                    requestedWorldSpeeds[i] = elementSpeed[0];
+                }
+            }
+        }
+        return checkInterruption(tweenType, target, null);
+    }
+
+    @Override
+    public void free() {
+        super.free();
+        offset = 0;
+        stride = 1;
+    }
+}
@@ -59,6 +59,12 @@ public class Vector2Tween extends TargetTween<Vector2Tween, Vector2> {
         }
     }
 
+    @Override
+    protected void applyAll(float[] values) {
+        target.x = values[0];
+        target.y = values[1];
+    }
+
     public Vector2Tween end(float endX, float endY) {
         setEndValue(0, endX);
         setEndValue(1, endY);
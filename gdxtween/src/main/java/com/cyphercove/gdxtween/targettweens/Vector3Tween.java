@@ -63,6 +63,13 @@ public class Vector3Tween extends TargetTween<Vector3Tween, Vector3> {
         }
     }
 
+    @Override
+    protected void applyAll (float[] values) {
+        target.x = values[0];
+        target.y = values[1];
+        target.z = values[2];
+    }
+
     public Vector3Tween end (float endX, float endY, float endZ){
         setEndValue(0, endX);
         setEndValue(1, endY);
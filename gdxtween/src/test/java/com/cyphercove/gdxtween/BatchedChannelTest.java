@@ -0,0 +1,112 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.math.Vector2;
+import com.cyphercove.gdxtween.math.Scalar;
+import com.cyphercove.gdxtween.targettweens.Vector2Tween;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class BatchedChannelTest {
+
+    private static final int TWEEN_COUNT = 500;
+
+    private static Ease easeFor(int i) {
+        switch (i % 3) {
+            case 0:
+                return Ease.linear;
+            case 1:
+                return Ease.smoothstep;
+            default:
+                return Ease.wrap(Interpolation.pow2);
+        }
+    }
+
+    @Test
+    public void batchedTweensMatchUnbatchedTweens() {
+        TweenRunner unbatched = new TweenRunner();
+        TweenRunner batched = new TweenRunner();
+        batched.getChannel(TweenRunner.DEFAULT_CHANNEL).batched(true);
+        final int[] completionCounts = new int[2];
+        Vector2[] unbatchedVectors = new Vector2[TWEEN_COUNT], batchedVectors = new Vector2[TWEEN_COUNT];
+        Scalar[] unbatchedScalars = new Scalar[TWEEN_COUNT], batchedScalars = new Scalar[TWEEN_COUNT];
+        Random random = new Random(5);
+        for (int i = 0; i < TWEEN_COUNT; i++) {
+            unbatchedVectors[i] = new Vector2();
+            batchedVectors[i] = new Vector2();
+            unbatchedScalars[i] = new Scalar();
+            batchedScalars[i] = new Scalar();
+            float duration = 0.2f + random.nextFloat() * 3f;
+            for (int r = 0; r < 2; r++) {
+                final int runner = r;
+                Tweens.to(r == 0 ? unbatchedVectors[i] : batchedVectors[i], i, -i).duration(duration).ease(easeFor(i))
+                        .completionListener(new TweenCompletionListener<Vector2Tween>() {
+                            @Override
+                            public void onTweenComplete(Vector2Tween tween) {
+                                completionCounts[runner]++;
+                            }
+                        }).start(r == 0 ? unbatched : batched);
+                Tweens.to(r == 0 ? unbatchedScalars[i] : batchedScalars[i], 5f).duration(duration)
+                        .start(r == 0 ? unbatched : batched);
+            }
+        }
+        for (int frame = 0; frame < 150; frame++) {
+            float deltaTime = random.nextFloat() / 30f;
+            unbatched.step(deltaTime);
+            batched.step(deltaTime);
+            if (frame == 20) {
+                // Interrupts batched tweens with ones that blend, which are not batched.
+                for (int i = 0; i < TWEEN_COUNT; i += 7) {
+                    Tweens.to(unbatchedVectors[i], 1, 1).duration(1f).ease(Ease.cubic()).start(unbatched);
+                    Tweens.to(batchedVectors[i], 1, 1).duration(1f).ease(Ease.cubic()).start(batched);
+                }
+            }
+            if (frame == 40)
+                batched.getChannel(TweenRunner.DEFAULT_CHANNEL).batched(false);
+            if (frame == 50)
+                batched.getChannel(TweenRunner.DEFAULT_CHANNEL).batched(true);
+            for (int i = 0; i < TWEEN_COUNT; i++) {
+                assertTrue(unbatchedVectors[i].epsilonEquals(batchedVectors[i], 0.001f));
+                assertEquals(unbatchedScalars[i].x, batchedScalars[i].x, 0f);
+            }
+            assertEquals(completionCounts[0], completionCounts[1]);
+        }
+        assertEquals(unbatched.getChannel(TweenRunner.DEFAULT_CHANNEL).getTweenCount(),
+                batched.getChannel(TweenRunner.DEFAULT_CHANNEL).getTweenCount());
+    }
+
+    @Test
+    public void batchedTweensCanBeCanceled() {
+        TweenRunner runner = new TweenRunner();
+        TweenChannel channel = runner.getChannel(TweenRunner.DEFAULT_CHANNEL).batched(true);
+        Vector2 target = new Vector2();
+        Tweens.to(target, 9, 9).duration(5f).ease(Ease.linear).start(runner);
+        runner.step(0.1f);
+        runner.step(0.1f);
+        assertEquals(1, channel.getBatchedTweenCount());
+        assertEquals(0.2f, channel.batches.get(0).times[0], 0.00001f);
+        assertTrue(runner.cancelAllTweens());
+        runner.step(0.1f);
+        runner.step(0.1f);
+        assertEquals(0, channel.getTweenCount());
+        assertEquals(0.36f, target.x, 0.0001f);
+    }
+}
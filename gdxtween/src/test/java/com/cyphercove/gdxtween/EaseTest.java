@@ -0,0 +1,174 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.math.Vector2;
+import com.cyphercove.gdxtween.math.Scalar;
+import com.cyphercove.gdxtween.targettweens.Vector2Tween;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class EaseTest {
+
+    @Test
+    public void builtInEasesAreIdentifiedByKind() {
+        assertEquals(Ease.KIND_LINEAR, Ease.kindOf(Ease.linear));
+        assertEquals(Ease.KIND_LINEAR, Ease.kindOf(Ease.DEFAULT));
+        assertEquals(Ease.KIND_SMOOTHSTEP, Ease.kindOf(Ease.smoothstep));
+        assertEquals(Ease.KIND_SMOOTHERSTEP, Ease.kindOf(Ease.smootherstep));
+        assertEquals(Ease.KIND_CUBIC_HERMITE, Ease.kindOf(Ease.cubic()));
+        assertEquals(Ease.KIND_QUINTIC_HERMITE, Ease.kindOf(Ease.quintic()));
+        assertEquals(Ease.KIND_INTERPOLATION, Ease.kindOf(Ease.wrap(Interpolation.sine)));
+        assertEquals(Ease.KIND_BAKED, Ease.kindOf(Ease.baked(Interpolation.sine, 64)));
+    }
+
+    @Test
+    public void subclassesOfBuiltInEasesAreOtherKind() {
+        Ease.CubicHermite subclass = new Ease.CubicHermite() {
+            @Override
+            public float apply(float a, float start, float end) {
+                return end;
+            }
+        };
+        assertEquals(Ease.KIND_OTHER, Ease.kindOf(subclass));
+    }
+
+    @Test
+    public void staticFunctionsMatchEaseInstances() {
+        Ease cubic = Ease.cubic().startSpeed(0.5f).endSpeed(-1f);
+        Ease quintic = Ease.quintic().startSpeed(2f).endSpeed(0.25f);
+        for (int i = -2; i <= 22; i++) {
+            float a = i / 20f;
+            assertEquals(Ease.linear.apply(a, 1f, 3f), Ease.applyLinear(a, 1f, 3f), 0f);
+            assertEquals(Ease.smoothstep.apply(a, 1f, 3f), Ease.applySmoothstep(a, 1f, 3f), 0f);
+            assertEquals(Ease.smootherstep.apply(a, 1f, 3f), Ease.applySmootherstep(a, 1f, 3f), 0f);
+            assertEquals(cubic.apply(a, 1f, 3f), Ease.applyCubicHermite(a, 1f, 3f, 0.5f, -1f), 0f);
+            assertEquals(quintic.apply(a, 1f, 3f), Ease.applyQuinticHermite(a, 1f, 3f, 2f, 0.25f), 0f);
+        }
+    }
+
+    @Test
+    public void batchesAreSeparatedByEaseKind() {
+        // Blend-in eases such as cubic() are left out, since tweens using them blend into interrupted tweens.
+        Ease[] eases = {
+                Ease.linear, Ease.smoothstep, Ease.smootherstep, Ease.wrap(Interpolation.pow3),
+                Ease.baked(Interpolation.sine, 64)
+        };
+        Ease[] expectedEases = {
+                Ease.linear, Ease.smoothstep, Ease.smootherstep, Ease.wrap(Interpolation.pow3), eases[4]
+        };
+        TweenRunner runner = new TweenRunner();
+        TweenChannel channel = runner.getChannel(TweenRunner.DEFAULT_CHANNEL).batched(true);
+        Scalar[] targets = new Scalar[eases.length];
+        for (int i = 0; i < eases.length; i++) {
+            targets[i] = new Scalar();
+            Tweens.to(targets[i], 2f).duration(1f).ease(eases[i]).start(runner);
+        }
+        runner.step(0.1f);
+        runner.step(0.2f);
+        assertEquals(eases.length, channel.batches.size);
+        for (int i = 0; i < channel.batches.size; i++) {
+            TargetTweenBatch batch = channel.batches.get(i);
+            assertEquals(1, batch.size());
+            for (int j = 0; j < i; j++)
+                assertNotEquals(channel.batches.get(j).easeKind, batch.easeKind);
+        }
+        for (int i = 0; i < eases.length; i++)
+            assertEquals(expectedEases[i].apply(0.3f, 0f, 2f), targets[i].x, 0.00001f);
+    }
+
+    /** Steps a tween moved into a batch by hand alongside an identical tween stepped on its own. */
+    private static void assertBatchedMatchesUnbatched(Ease batchedEase, Ease unbatchedEase) {
+        TweenRunner batchedRunner = new TweenRunner();
+        TweenRunner unbatchedRunner = new TweenRunner();
+        TweenChannel channel = batchedRunner.getChannel(TweenRunner.DEFAULT_CHANNEL).batched(true);
+        Vector2 batchedTarget = new Vector2(1f, 2f), unbatchedTarget = new Vector2(1f, 2f);
+        Vector2Tween batchedTween = Tweens.to(batchedTarget, 10f, -20f).duration(1f).ease(batchedEase);
+        batchedTween.start(batchedRunner);
+        Tweens.to(unbatchedTarget, 10f, -20f).duration(1f).ease(unbatchedEase).start(unbatchedRunner);
+        batchedRunner.step(0.1f);
+        unbatchedRunner.step(0.1f);
+        // Tweens with blend-in eases are not moved into batches automatically.
+        channel.tweens.removeValue(batchedTween, true);
+        channel.getBatch(2, Ease.kindOf(batchedEase)).add(batchedTween);
+        for (int i = 0; i < 3; i++) {
+            batchedRunner.step(0.2f);
+            unbatchedRunner.step(0.2f);
+            assertEquals(1, channel.getBatchedTweenCount());
+            assertEquals(unbatchedTarget.x, batchedTarget.x, 0.0001f);
+            assertEquals(unbatchedTarget.y, batchedTarget.y, 0.0001f);
+        }
+    }
+
+    @Test
+    public void batchesEvaluateHermiteEasesWithTheirSpeeds() {
+        assertBatchedMatchesUnbatched(Ease.cubic().startSpeed(1f).endSpeed(-0.5f),
+                Ease.cubic().startSpeed(1f).endSpeed(-0.5f));
+        assertBatchedMatchesUnbatched(Ease.quintic().startSpeed(-1f).endSpeed(2f),
+                Ease.quintic().startSpeed(-1f).endSpeed(2f));
+    }
+
+    private static float maxBakedError(Ease.BakedEase baked, Ease original, float start, float end) {
+        float maxError = 0f;
+        for (int i = 0; i <= 10000; i++) {
+            float a = i / 10000f;
+            maxError = Math.max(maxError, Math.abs(baked.apply(a, start, end) - original.apply(a, start, end)));
+        }
+        return maxError;
+    }
+
+    @Test
+    public void bakedEaseIsWithinSecondDerivativeBound() {
+        int samples = 256;
+        float h = 1f / samples;
+        float floatError = 0.000001f;
+        // The second derivative of smoothstep is at most 6, and of smootherstep at most 10 / sqrt(3).
+        float smoothstepBound = h * h / 8f * 6f;
+        float smootherstepBound = h * h / 8f * 10f / (float) Math.sqrt(3);
+        assertTrue(maxBakedError(Ease.baked(Ease.smoothstep, samples), Ease.smoothstep, 0f, 1f)
+                <= smoothstepBound + floatError);
+        assertTrue(maxBakedError(Ease.baked(Ease.smootherstep, samples), Ease.smootherstep, 0f, 1f)
+                <= smootherstepBound + floatError);
+        // The error scales with the distance.
+        assertTrue(maxBakedError(Ease.baked(Ease.smoothstep, samples), Ease.smoothstep, 2f, -3f)
+                <= smoothstepBound * 5f + floatError * 5f);
+    }
+
+    @Test
+    public void bakedEaseIsExactAtSamplesAndEnds() {
+        Ease original = Ease.wrap(Interpolation.swing);
+        Ease.BakedEase baked = Ease.baked(Interpolation.swing, 64);
+        for (int i = 0; i <= 64; i++) {
+            float a = (float) i / 64;
+            assertEquals(original.apply(a, 0f, 1f), baked.apply(a, 0f, 1f), 0.000001f);
+        }
+        assertEquals(2f, baked.apply(-0.5f, 2f, 5f), 0f);
+        assertEquals(5f, baked.apply(1.5f, 2f, 5f), 0f);
+        assertTrue(maxBakedError(Ease.baked(Interpolation.swing, 512), original, 2f, 5f) < 0.001f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void blendInEasesCannotBeBaked() {
+        Ease.baked(Ease.cubic(), 10);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void bakedEaseNeedsSamples() {
+        Ease.baked(Ease.smoothstep, 0);
+    }
+}
@@ -0,0 +1,87 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.cyphercove.gdxtween.math.Scalar;
+import com.cyphercove.gdxtween.targettweens.ScalarTween;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FixedTimeStepTest {
+
+    @Test
+    public void timeIsAccumulatedIntoWholeSubsteps() {
+        TweenRunner runner = new TweenRunner();
+        runner.setFixedTimeStep(0.25f, 3, false);
+        Scalar target = new Scalar();
+        Tweens.to(target, 1f).duration(1f).ease(Ease.linear).start(runner);
+        runner.step(0.2f);
+        assertEquals(0f, target.x, 0f);
+        assertEquals(0.2f, runner.getAccumulatedTime(), 0.00001f);
+        runner.step(0.1f);
+        assertEquals(0.25f, target.x, 0f);
+        assertEquals(0.05f, runner.getAccumulatedTime(), 0.00001f);
+    }
+
+    @Test
+    public void substepsAreCapped() {
+        TweenRunner runner = new TweenRunner();
+        runner.setFixedTimeStep(0.25f, 2, false);
+        Scalar target = new Scalar();
+        Tweens.to(target, 1f).duration(1f).ease(Ease.linear).start(runner);
+        runner.step(10f);
+        assertEquals(0.5f, target.x, 0f);
+        assertTrue(runner.getAccumulatedTime() < 0.25f);
+    }
+
+    @Test
+    public void finalSubstepOnlyReachesTheSameValues() {
+        TweenRunner runner = new TweenRunner();
+        runner.setFixedTimeStep(0.25f, 8, true);
+        final int[] completionCount = {0};
+        Scalar target = new Scalar();
+        Tweens.to(target, 1f).duration(1f).ease(Ease.linear).start(runner);
+        for (int i = 0; i < 3; i++) {
+            Tweens.to(new Scalar(), 1f).duration(0.1f).completionListener(new TweenCompletionListener<ScalarTween>() {
+                @Override
+                public void onTweenComplete(ScalarTween tween) {
+                    completionCount[0]++;
+                }
+            }).start(runner);
+        }
+        runner.step(0.6f);
+        assertEquals(0.5f, target.x, 0f);
+        assertEquals(3, completionCount[0]);
+    }
+
+    @Test
+    public void zeroTimeStepStepsByFrameDelta() {
+        TweenRunner runner = new TweenRunner();
+        runner.setFixedTimeStep(0.25f, 3, false);
+        runner.setFixedTimeStep(0f, 0, false);
+        Scalar target = new Scalar();
+        Tweens.to(target, 1f).duration(1f).ease(Ease.linear).start(runner);
+        runner.step(0.1f);
+        assertEquals(0.1f, target.x, 0.00001f);
+        assertEquals(0f, runner.getAccumulatedTime(), 0f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void missingSubstepsAreRejected() {
+        new TweenRunner().setFixedTimeStep(0.25f, 0, false);
+    }
+}
@@ -0,0 +1,66 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.math.Vector2;
+import com.cyphercove.gdxtween.targettweens.Vector2Tween;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class GroupTweenDurationTest {
+
+    @Test
+    public void durationIsUpdatedWhenChildrenAreAdded() {
+        Vector2 target = new Vector2();
+        SequenceTween outer = Tweens.inSequence();
+        assertEquals(0f, outer.getDuration(), 0f);
+        ParallelTween inner = outer.inParallel();
+        inner.run(Tweens.to(target, 1, 1).duration(2));
+        assertEquals(2f, outer.getDuration(), 0f);
+        // Adding to a nested group updates its ancestors too.
+        inner.run(Tweens.to(target, 1, 1).duration(3));
+        assertEquals(3f, inner.getDuration(), 0f);
+        assertEquals(3f, outer.getDuration(), 0f);
+        outer.delay(1);
+        assertEquals(4f, outer.getDuration(), 0f);
+    }
+
+    @Test
+    public void childrenModifiedAfterAddingArePickedUpWhenStarted() {
+        Vector2 target = new Vector2();
+        SequenceTween sequence = Tweens.inSequence().run(Tweens.to(target, 1, 1).duration(1));
+        Vector2Tween late = Tweens.to(target, 2, 2);
+        sequence.run(late);
+        late.duration(5).repeat(1);
+        TweenRunner runner = new TweenRunner();
+        sequence.start(runner);
+        assertEquals(11f, sequence.getDuration(), 0f);
+        runner.step(10.9f);
+        assertFalse(sequence.isComplete());
+        runner.step(0.2f);
+        assertTrue(sequence.isComplete());
+    }
+
+    @Test
+    public void repeatsOfGroupsAreNotPartOfTheirDuration() {
+        ParallelTween parallel = Tweens.inParallel()
+                .run(Tweens.to(new Vector2(), 1, 1).duration(2))
+                .repeat(2);
+        assertEquals(2f, parallel.getDuration(), 0f);
+        assertEquals(6f, parallel.getTotalDuration(), 0f);
+    }
+}
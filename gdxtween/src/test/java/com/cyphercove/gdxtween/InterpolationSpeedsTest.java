@@ -0,0 +1,95 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.math.Interpolation;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class InterpolationSpeedsTest {
+
+    private static final Interpolation[] INTERPOLATIONS = {
+            Interpolation.linear, Interpolation.smooth, Interpolation.smooth2, Interpolation.smoother,
+            Interpolation.pow2, Interpolation.pow3, Interpolation.pow4In, Interpolation.pow5Out, Interpolation.pow2Out,
+            Interpolation.pow2InInverse, Interpolation.pow2OutInverse, Interpolation.pow3InInverse,
+            Interpolation.pow3OutInverse, Interpolation.sine, Interpolation.sineIn, Interpolation.sineOut,
+            Interpolation.exp10, Interpolation.exp5In, Interpolation.exp10Out, Interpolation.circle,
+            Interpolation.circleIn, Interpolation.circleOut, Interpolation.elastic, Interpolation.elasticIn,
+            Interpolation.elasticOut, Interpolation.swing, Interpolation.swingIn, Interpolation.swingOut,
+            Interpolation.bounce, Interpolation.bounceIn, Interpolation.bounceOut, new Interpolation.Pow(6),
+            new Interpolation.PowOut(3), new Interpolation.Exp(3, 4), new Interpolation.ExpIn(2.5f, 3),
+            new Interpolation.Swing(0.7f), new Interpolation.SwingOut(1.2f)
+    };
+
+    /**
+     * The smallest relative error between a speed and central differences of the interpolation with a few step sizes,
+     * so both rounding error for small steps and truncation error for large ones are tolerated. Steps where the
+     * interpolation is undefined, such as past the end of circleIn, are skipped.
+     */
+    private static double finiteDifferenceError(Interpolation interpolation, float a, float speed) {
+        double error = Double.MAX_VALUE;
+        for (double h : new double[]{1e-4, 5e-4, 2e-3, 1e-2}) {
+            double difference = (interpolation.apply((float) (a + h)) - interpolation.apply((float) (a - h))) / (2 * h);
+            if (Double.isNaN(difference))
+                continue;
+            error = Math.min(error, Math.abs(speed - difference) / Math.max(1.0, Math.abs(difference)));
+        }
+        return error;
+    }
+
+    @Test
+    public void speedsMatchFiniteDifferences() {
+        for (int k = 0; k < INTERPOLATIONS.length; k++) {
+            Interpolation interpolation = INTERPOLATIONS[k];
+            Ease.InterpolationWrapper ease = Ease.wrap(interpolation);
+            for (int i = 1; i < 1000; i++) {
+                // Offset from the corners of bounce and the middle of the InOut interpolations.
+                float a = i / 1000f + 0.0003f;
+                double error = finiteDifferenceError(interpolation, a, ease.speed(a, 0f, 1f));
+                assertTrue("Interpolation " + k + " at " + a + ": " + error, error < 0.03);
+            }
+            ease.free();
+        }
+    }
+
+    @Test
+    public void speedsScaleWithDistance() {
+        Ease.InterpolationWrapper ease = Ease.wrap(Interpolation.pow3);
+        assertEquals(-3f * ease.speed(0.3f, 0f, 1f), ease.speed(0.3f, 5f, 2f), 0.0001f);
+        ease.free();
+    }
+
+    @Test
+    public void speedIsFiniteAtVerticalEnds() {
+        Ease.InterpolationWrapper ease = Ease.wrap(Interpolation.circleIn);
+        assertFalse(Float.isInfinite(ease.speed(1f, 0f, 1f)));
+        assertFalse(Float.isNaN(ease.speed(1f, 0f, 1f)));
+        ease.free();
+    }
+
+    @Test
+    public void unknownInterpolationsFallBackToNumericalSpeed() {
+        Ease.InterpolationWrapper ease = Ease.wrap(new Interpolation() {
+            @Override
+            public float apply(float a) {
+                return a * a;
+            }
+        });
+        assertEquals(2f, ease.speed(0.5f, 0f, 2f), 0.01f);
+        ease.free();
+    }
+}
@@ -0,0 +1,154 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.math.Vector2;
+import com.cyphercove.gdxtween.math.Scalar;
+import com.cyphercove.gdxtween.targettweens.MultiVector2Tween;
+import com.cyphercove.gdxtween.targettweens.ScalarTween;
+import com.cyphercove.gdxtween.targettweens.Vector2Tween;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class InterruptionIndexTest {
+
+    @Test
+    public void startingTweenCancelsTweenOfSameTypeOnSameTarget() {
+        TweenRunner runner = new TweenRunner();
+        Scalar target = new Scalar(), other = new Scalar();
+        ScalarTween first = Tweens.to(target, 1f).duration(1f);
+        ScalarTween unrelated = Tweens.to(other, 1f).duration(1f);
+        first.start(runner);
+        unrelated.start(runner);
+        runner.step(0.5f);
+
+        Tweens.to(target, 0f).duration(1f).start(runner);
+        assertTrue(first.isCanceled());
+        assertFalse(unrelated.isCanceled());
+    }
+
+    @Test
+    public void interruptionListenerIsCalled() {
+        TweenRunner runner = new TweenRunner();
+        Scalar target = new Scalar();
+        final int[] interruptions = {0};
+        Tweens.to(target, 1f).duration(1f).interruptionListener(new TweenInterruptionListener<ScalarTween>() {
+            @Override
+            public void onTweenInterrupted(ScalarTween interruptedTween) {
+                interruptions[0]++;
+            }
+        }).start(runner);
+        runner.step(0.1f);
+
+        assertTrue(runner.interruptTweens(ScalarTween.class, target));
+        assertEquals(1, interruptions[0]);
+        assertFalse(runner.interruptTweens(ScalarTween.class, target));
+        assertEquals(1, interruptions[0]);
+    }
+
+    @Test
+    public void childNotYetReachedCancelsHierarchy() {
+        TweenRunner runner = new TweenRunner();
+        Scalar first = new Scalar(), second = new Scalar();
+        SequenceTween sequence = Tweens.inSequence()
+                .run(Tweens.to(first, 1f).duration(1f))
+                .run(Tweens.to(second, 1f).duration(1f));
+        sequence.start(runner);
+        runner.step(0.1f);
+
+        Tweens.to(second, 5f).duration(1f).start(runner);
+        assertTrue(sequence.isCanceled());
+    }
+
+    @Test
+    public void muteChildKeepsHierarchyRunning() {
+        TweenRunner runner = new TweenRunner();
+        Scalar first = new Scalar(), second = new Scalar();
+        SequenceTween sequence = Tweens.inSequence()
+                .childInterruptionBehavior(ChildInterruptionBehavior.MuteChild)
+                .run(Tweens.to(first, 1f).duration(1f))
+                .run(Tweens.to(second, 1f).duration(1f));
+        sequence.start(runner);
+        runner.step(0.1f);
+
+        assertFalse(runner.interruptTweens(ScalarTween.class, first));
+        assertFalse(sequence.isCanceled());
+        for (int i = 0; i < 25; i++)
+            runner.step(0.1f);
+        assertTrue(first.x < 1f);
+        assertEquals(1f, second.x, 0f);
+    }
+
+    @Test
+    public void nullTargetsAreIgnored() {
+        TweenRunner runner = new TweenRunner();
+        assertFalse(runner.interruptTweens(ScalarTween.class, null));
+        Tweens.to((Scalar) null, 1f).duration(1f).start(runner); // Only throws once it begins.
+        assertEquals(1, runner.getChannel(0).getTweenCount());
+    }
+
+    @Test
+    public void multiTargetTweenIsInterruptedOnEachTargetSeparately() {
+        TweenRunner runner = new TweenRunner();
+        Vector2[] targets = {new Vector2(), new Vector2()};
+        MultiVector2Tween multi = Tweens.toAll(targets, new float[]{10f, 10f, 10f, 10f}).duration(1f).ease(Ease.linear);
+        multi.start(runner);
+        runner.step(0.5f);
+
+        Tweens.to(targets[0], -1f, -1f).duration(1f).start(runner);
+        assertFalse(multi.isCanceled());
+        runner.step(0.25f);
+        assertEquals(7.5f, targets[1].x, 0.0001f);
+
+        assertTrue(runner.interruptTweens(Vector2Tween.class, targets[1]));
+        assertTrue(multi.isCanceled());
+    }
+
+    @Test
+    public void finishedTweensAreRemovedFromIndex() {
+        TweenRunner runner = new TweenRunner();
+        float[] array = new float[500];
+        for (int i = 0; i < array.length; i++)
+            Tweens.to(array, i, 1, 1f).duration(0.1f + i * 0.001f).start(runner);
+        runner.step(0.2f);
+        runner.step(1f);
+        runner.step(0.1f);
+        assertEquals(0, runner.getChannel(0).getTweenCount());
+
+        ScalarTween survivor = Tweens.to(new Scalar(), 1f).duration(1f);
+        survivor.start(runner);
+        assertFalse(runner.interruptTweens(com.cyphercove.gdxtween.targettweens.FloatArrayTween.class, array));
+        assertFalse(survivor.isCanceled());
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void deprecatedCheckInterruptionSearchesHierarchy() {
+        TweenRunner runner = new TweenRunner();
+        Vector2 first = new Vector2(), second = new Vector2();
+        SequenceTween sequence = Tweens.inSequence()
+                .run(Tweens.to(first, 1f, 1f).duration(1f))
+                .run(Tweens.to(second, 1f, 1f).duration(1f));
+        sequence.start(runner);
+        runner.step(0.5f);
+
+        assertFalse(sequence.checkInterruption(Vector2Tween.class, new Vector2(), null));
+        assertFalse(sequence.isCanceled());
+        assertTrue(sequence.checkInterruption(Vector2Tween.class, second, null));
+        assertTrue(sequence.isCanceled());
+    }
+}
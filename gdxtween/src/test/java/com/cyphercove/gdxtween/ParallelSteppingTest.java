@@ -0,0 +1,139 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.cyphercove.gdxtween.math.Scalar;
+import com.cyphercove.gdxtween.targettweens.AccessorTween;
+import com.cyphercove.gdxtween.targettweens.ScalarTween;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ParallelSteppingTest {
+
+    private static final int TWEEN_COUNT = 1000;
+
+    private AsyncExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = new AsyncExecutor(3);
+    }
+
+    @After
+    public void tearDown() {
+        executor.dispose();
+    }
+
+    /** Runs sequences of varying lengths and returns the order their last children completed in. */
+    private IntArray runSequences(boolean parallel, float[] outValues) {
+        TweenRunner runner = new TweenRunner();
+        if (parallel)
+            runner.setParallelStepping(executor, 4, 10);
+        final IntArray order = new IntArray();
+        Scalar[] targets = new Scalar[TWEEN_COUNT];
+        for (int i = 0; i < TWEEN_COUNT; i++) {
+            targets[i] = new Scalar();
+            final int id = i;
+            Tweens.inSequence()
+                    .run(Tweens.to(targets[i], 1f).duration(0.05f * (i % 7 + 1)))
+                    .run(Tweens.to(targets[i], 2f).duration(0.1f).completionListener(new TweenCompletionListener<ScalarTween>() {
+                        @Override
+                        public void onTweenComplete(ScalarTween tween) {
+                            order.add(id);
+                        }
+                    }))
+                    .start(runner);
+        }
+        for (int i = 0; i < 30; i++) {
+            runner.step(0.033f);
+            if (i == 10) {
+                for (int j = 0; j < TWEEN_COUNT; j++)
+                    outValues[j] = targets[j].x;
+            }
+        }
+        for (int i = 0; i < TWEEN_COUNT; i++)
+            assertEquals(2f, targets[i].x, 0f);
+        return order;
+    }
+
+    @Test
+    public void parallelSteppingMatchesSerialStepping() {
+        float[] serialValues = new float[TWEEN_COUNT];
+        float[] parallelValues = new float[TWEEN_COUNT];
+        IntArray serialOrder = runSequences(false, serialValues);
+        IntArray parallelOrder = runSequences(true, parallelValues);
+        assertArrayEquals(serialValues, parallelValues, 0f);
+        assertEquals(TWEEN_COUNT, serialOrder.size);
+        assertEquals(serialOrder, parallelOrder);
+    }
+
+    @Test
+    public void fewTweensAreSteppedSerially() {
+        TweenRunner runner = new TweenRunner();
+        runner.setParallelStepping(executor, 4, 10);
+        final Thread callingThread = Thread.currentThread();
+        final boolean[] calledOnCallingThread = {false};
+        final float[] value = {0f};
+        Tweens.to(new AccessorTween.Accessor() {
+            @Override
+            public int getNumberOfValues() {
+                return 1;
+            }
+
+            @Override
+            public float getValue(int index) {
+                return value[0];
+            }
+
+            @Override
+            public void setValue(int index, float newValue) {
+                calledOnCallingThread[0] = Thread.currentThread() == callingThread;
+                value[0] = newValue;
+            }
+        }).end(0, 1f).duration(0.5f).ease(Ease.linear).start(runner);
+        runner.step(0.25f);
+        assertTrue(calledOnCallingThread[0]);
+        assertEquals(0.5f, value[0], 0.0001f);
+    }
+
+    @Test
+    public void parallelSteppingCannotBeChangedDuringStep() {
+        final TweenRunner runner = new TweenRunner();
+        final boolean[] threw = {false};
+        Tweens.to(new Scalar(), 1f).duration(0.1f).completionListener(new TweenCompletionListener<ScalarTween>() {
+            @Override
+            public void onTweenComplete(ScalarTween tween) {
+                try {
+                    runner.setParallelStepping(executor, 4, 10);
+                } catch (IllegalStateException e) {
+                    threw[0] = true;
+                }
+            }
+        }).start(runner);
+        runner.step(1f);
+        assertTrue(threw[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void singlePartitionIsRejected() {
+        new TweenRunner().setParallelStepping(executor, 1, 10);
+    }
+}
@@ -0,0 +1,89 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.math.Vector2;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ParallelTweenTest {
+
+    @Test
+    public void onlyLiveChildrenAreStepped() {
+        TweenRunner runner = new TweenRunner();
+        Vector2[] targets = new Vector2[500];
+        ParallelTween parallel = Tweens.inParallel();
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = new Vector2();
+            parallel.run(Tweens.to(targets[i], 10, 0).duration(i + 1).ease(Ease.linear));
+        }
+        parallel.start(runner);
+        runner.step(0.5f);
+        assertEquals(500, parallel.liveChildren.size);
+        assertEquals(5f, targets[0].x, 0f);
+        runner.step(99.5f);
+        assertEquals(400, parallel.liveChildren.size);
+        assertEquals(10f, targets[99].x, 0f);
+        assertTrue(targets[100].x < 10f);
+
+        // Rewinding makes completed children live again.
+        runner.seek(parallel, 50f);
+        assertEquals(450, parallel.liveChildren.size);
+        assertEquals(10f, targets[49].x, 0f);
+        assertTrue(targets[50].x < 10f);
+        assertEquals(5f, targets[99].x, 0.0001f);
+
+        runner.step(450f);
+        assertEquals(0, parallel.liveChildren.size);
+        assertEquals(10f, targets[499].x, 0f);
+        assertTrue(parallel.isComplete());
+    }
+
+    @Test
+    public void canceledChildrenAreNotLive() {
+        TweenRunner runner = new TweenRunner();
+        Vector2 first = new Vector2(), second = new Vector2();
+        ParallelTween parallel = Tweens.inParallel()
+                .run(Tweens.to(first, 10, 0).duration(1).ease(Ease.linear))
+                .run(Tweens.to(second, 10, 0).duration(1).ease(Ease.linear))
+                .childInterruptionBehavior(ChildInterruptionBehavior.MuteChild);
+        parallel.start(runner);
+        runner.step(0.25f);
+        Tweens.to(first, -10, 0).duration(1).start(runner);
+        runner.step(0.25f);
+        assertEquals(1, parallel.liveChildren.size);
+        assertEquals(5f, second.x, 0.0001f);
+    }
+
+    @Test
+    public void repeatingParallelRestoresLiveChildren() {
+        TweenRunner runner = new TweenRunner();
+        Vector2 first = new Vector2(), second = new Vector2();
+        ParallelTween parallel = Tweens.inParallel()
+                .run(Tweens.to(first, 10, 0).duration(1).ease(Ease.linear))
+                .run(Tweens.to(second, 10, 0).duration(2).ease(Ease.linear));
+        parallel.repeat(2).start(runner);
+        runner.step(1.5f);
+        assertEquals(10f, first.x, 0f);
+        assertEquals(7.5f, second.x, 0f);
+        assertEquals(1, parallel.liveChildren.size);
+        runner.step(1f);
+        assertEquals(5f, first.x, 0f);
+        assertEquals(2.5f, second.x, 0f);
+        assertEquals(2, parallel.liveChildren.size);
+    }
+}
@@ -0,0 +1,183 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.math.Vector2;
+import com.cyphercove.gdxtween.targettweens.Vector2Tween;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RepeatTest {
+
+    private int completionCount;
+
+    private TweenCompletionListener<Vector2Tween> countCompletions() {
+        return new TweenCompletionListener<Vector2Tween>() {
+            @Override
+            public void onTweenComplete(Vector2Tween tween) {
+                completionCount++;
+            }
+        };
+    }
+
+    @Test
+    public void repeatReplaysFromTheStart() {
+        TweenRunner runner = new TweenRunner();
+        Vector2 target = new Vector2();
+        Vector2Tween tween = Tweens.to(target, 10, 0).duration(1).ease(Ease.linear).repeat(2)
+                .completionListener(countCompletions());
+        assertEquals(3f, tween.getTotalDuration(), 0f);
+        tween.start(runner);
+        runner.step(0.5f);
+        assertEquals(5f, target.x, 0.0001f);
+        runner.step(1f);
+        assertEquals(5f, target.x, 0.0001f);
+        assertEquals(1, ((Tween<?>) tween).getCycle());
+        assertEquals(0.5f, tween.getTime(), 0.0001f);
+        assertEquals(1.5f, tween.getElapsedTime(), 0.0001f);
+        assertEquals(0, completionCount);
+        runner.step(1.5f);
+        assertEquals(10f, target.x, 0f);
+        assertEquals(1, completionCount);
+        assertTrue(tween.isComplete());
+    }
+
+    @Test
+    public void yoyoPlaysBackwardOnOddCycles() {
+        TweenRunner runner = new TweenRunner();
+        Vector2 target = new Vector2();
+        Vector2Tween tween = Tweens.to(target, 10, 0).duration(1).ease(Ease.linear).repeat(1).yoyo(true);
+        tween.start(runner);
+        runner.step(0.5f);
+        runner.step(1f);
+        assertEquals(5f, target.x, 0.0001f);
+        assertEquals(0.5f, tween.getTime(), 0.0001f);
+        runner.step(0.25f);
+        assertEquals(2.5f, target.x, 0.0001f);
+        runner.step(0.5f);
+        assertEquals(0f, target.x, 0f);
+        assertTrue(tween.isComplete());
+    }
+
+    @Test
+    public void infiniteRepeatsKeepElapsedTimeBounded() {
+        TweenRunner runner = new TweenRunner();
+        Vector2 target = new Vector2();
+        Vector2Tween tween = Tweens.to(target, 10, 0).duration(1).ease(Ease.linear).repeat(Tween.INFINITE).yoyo(true);
+        assertEquals(Float.POSITIVE_INFINITY, tween.getTotalDuration(), 0f);
+        tween.start(runner);
+        for (int i = 0; i < 1001; i++)
+            runner.step(0.25f);
+        // 250.25 seconds in, the yo-yo is a quarter of the way into a forward cycle.
+        assertEquals(2.5f, target.x, 0.0001f);
+        assertTrue(tween.getElapsedTime() < 2f);
+        assertTrue(((Tween<?>) tween).getCycle() < 2);
+        assertFalse(tween.isComplete());
+        assertTrue(runner.interruptTweens(Vector2Tween.class, target));
+    }
+
+    @Test
+    public void sequenceYoyoPlaysChildrenInReverse() {
+        TweenRunner runner = new TweenRunner();
+        Vector2 target = new Vector2();
+        SequenceTween sequence = Tweens.inSequence().ease(Ease.linear).duration(1)
+                .run(Tweens.to(target, 10, 0))
+                .run(Tweens.to(target, 10, 10).completionListener(countCompletions()));
+        sequence.repeat(1).yoyo(true);
+        sequence.start(runner);
+        runner.step(0.5f);
+        assertEquals(5f, target.x, 0.0001f);
+        assertEquals(0f, target.y, 0f);
+        runner.step(2f);
+        assertEquals(10f, target.x, 0.0001f);
+        assertEquals(5f, target.y, 0.0001f);
+        assertEquals(1, completionCount);
+        runner.step(1f);
+        assertEquals(5f, target.x, 0.0001f);
+        assertEquals(0f, target.y, 0f);
+        runner.step(1.25f);
+        assertEquals(new Vector2(0, 0), target);
+        assertTrue(sequence.isComplete());
+        // Children do not complete again while playing backward.
+        assertEquals(1, completionCount);
+    }
+
+    @Test
+    public void repeatingSequenceRunsZeroDurationChildrenEachCycle() {
+        TweenRunner runner = new TweenRunner();
+        Vector2 target = new Vector2();
+        SequenceTween sequence = Tweens.inSequence()
+                .run(Tweens.to(target, 5, 5).duration(0).completionListener(countCompletions()))
+                .run(Tweens.to(target, 0, 0).duration(1).ease(Ease.linear))
+                .run(Tweens.to(target, -5, 0).duration(0))
+                .repeat(2);
+        sequence.start(runner);
+        runner.step(0.5f);
+        assertEquals(2.5f, target.x, 0.0001f);
+        assertEquals(1, completionCount);
+        runner.step(1f);
+        assertEquals(2.5f, target.x, 0.0001f);
+        assertEquals(2, completionCount);
+        runner.step(1.6f);
+        assertEquals(-5f, target.x, 0f);
+        assertEquals(3, completionCount);
+        assertTrue(sequence.isComplete());
+    }
+
+    @Test
+    public void repeatingParallelRestartsAllChildren() {
+        TweenRunner runner = new TweenRunner();
+        Vector2 first = new Vector2(), second = new Vector2();
+        ParallelTween parallel = Tweens.inParallel().ease(Ease.linear)
+                .run(Tweens.to(first, 10, 0).duration(1))
+                .run(Tweens.to(second, 10, 0).duration(2))
+                .repeat(1);
+        parallel.start(runner);
+        runner.step(1.5f);
+        assertEquals(10f, first.x, 0f);
+        assertEquals(7.5f, second.x, 0.0001f);
+        runner.step(1f);
+        assertEquals(5f, first.x, 0.0001f);
+        assertEquals(2.5f, second.x, 0.0001f);
+        runner.step(2f);
+        assertTrue(parallel.isComplete());
+        assertEquals(10f, first.x, 0f);
+        assertEquals(10f, second.x, 0f);
+    }
+
+    @Test
+    public void repeatingChildrenCountTowardsTheirParentsDuration() {
+        TweenRunner runner = new TweenRunner();
+        Vector2 target = new Vector2();
+        SequenceTween sequence = Tweens.inSequence().ease(Ease.linear)
+                .run(Tweens.to(target, 10, 0).duration(1).repeat(1).yoyo(true))
+                .run(Tweens.to(target, 20, 0).duration(1));
+        assertEquals(3f, sequence.getDuration(), 0f);
+        sequence.start(runner);
+        runner.step(1.5f);
+        assertEquals(5f, target.x, 0.0001f);
+        runner.step(1f);
+        assertEquals(10f, target.x, 0.0001f);
+        runner.seek(sequence, 1.25f);
+        assertEquals(7.5f, target.x, 0.0001f);
+        runner.seek(sequence, 0.25f);
+        assertEquals(2.5f, target.x, 0.0001f);
+        runner.step(10f);
+        assertEquals(20f, target.x, 0f);
+        assertTrue(sequence.isComplete());
+    }
+}
@@ -0,0 +1,153 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.math.Vector2;
+import com.cyphercove.gdxtween.targettweens.Vector2Tween;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class SeekTest {
+
+    private int completionCount;
+
+    private SequenceTween createSequence(Vector2 v, Vector2 w) {
+        return Tweens.inSequence()
+                .run(Tweens.to(v, 10, 0).duration(1).ease(Ease.linear))
+                .run(Tweens.to(v, 10, 10).duration(1).ease(Ease.linear)
+                        .completionListener(new TweenCompletionListener<Vector2Tween>() {
+                            @Override
+                            public void onTweenComplete(Vector2Tween tween) {
+                                completionCount++;
+                            }
+                        }))
+                .run(Tweens.inParallel()
+                        .run(Tweens.to(v, 0, 0).duration(1).ease(Ease.linear))
+                        .run(Tweens.to(w, 5, 5).duration(2).ease(Ease.linear)))
+                .run(Tweens.to(v, -10, 0).duration(1).ease(Ease.linear));
+    }
+
+    @Test
+    public void seekForwardAndBackward() {
+        TweenRunner runner = new TweenRunner();
+        Vector2 v = new Vector2(), w = new Vector2();
+        SequenceTween sequence = createSequence(v, w);
+        sequence.start(runner);
+        runner.step(0.5f);
+        assertEquals(new Vector2(5, 0), v);
+
+        runner.seek(sequence, 2.5f);
+        assertEquals(new Vector2(5, 5), v);
+        assertEquals(1.25f, w.x, 0f);
+        assertEquals(1, completionCount);
+
+        // Moving backward calls no listeners.
+        runner.seek(sequence, 1.5f);
+        assertEquals(new Vector2(10, 5), v);
+        assertEquals(0f, w.x, 0f);
+        assertEquals(1, completionCount);
+
+        runner.seek(sequence, 0.25f);
+        assertEquals(new Vector2(2.5f, 0), v);
+
+        // Children that became incomplete complete again.
+        runner.seek(sequence, 4.5f);
+        assertEquals(-5f, v.x, 0f);
+        assertEquals(5f, w.x, 0f);
+        assertEquals(2, completionCount);
+
+        runner.seek(sequence, 3.5f);
+        assertEquals(0f, v.x, 0f);
+        assertEquals(3.75f, w.x, 0f);
+        runner.step(0.25f);
+        assertEquals(0f, v.x, 0f);
+        assertEquals(4.375f, w.x, 0f);
+
+        runner.step(5f);
+        assertEquals(-10f, v.x, 0f);
+        assertEquals(2, completionCount);
+        assertTrue(sequence.isComplete());
+    }
+
+    @Test
+    public void seekingToTheEndCompletes() {
+        TweenRunner runner = new TweenRunner();
+        Vector2 v = new Vector2(), w = new Vector2();
+        SequenceTween sequence = createSequence(v, w);
+        sequence.start(runner);
+        runner.step(0.1f);
+        runner.seek(sequence, 100f);
+        assertTrue(sequence.isComplete());
+        assertEquals(new Vector2(-10, 0), v);
+        assertEquals(new Vector2(5, 5), w);
+        assertEquals(1, completionCount);
+    }
+
+    @Test
+    public void batchedTweensCanBeSeeked() {
+        TweenRunner runner = new TweenRunner();
+        TweenChannel channel = runner.getChannel(TweenRunner.DEFAULT_CHANNEL).batched(true);
+        Vector2 target = new Vector2();
+        Vector2Tween tween = Tweens.to(target, 10, 0).duration(1).ease(Ease.linear);
+        tween.start(runner);
+        runner.step(0.1f);
+        runner.step(0.4f);
+        assertEquals(1, channel.getBatchedTweenCount());
+        runner.seek(tween, 0.2f);
+        assertEquals(2f, target.x, 0f);
+        assertEquals(0.2f, tween.getTime(), 0f);
+        runner.step(0.3f);
+        assertEquals(5f, target.x, 0.0001f);
+    }
+
+    @Test
+    public void parkedTweensCanBeSeeked() {
+        TweenRunner runner = new TweenRunner();
+        runner.setParkingThreshold(0.5f);
+        Vector2 target = new Vector2();
+        SequenceTween sequence = Tweens.inSequence().delay(10f).run(Tweens.to(target, 10, 0).duration(1).ease(Ease.linear));
+        sequence.start(runner);
+        runner.step(0.1f);
+        runner.seek(sequence, 10.5f);
+        assertEquals(5f, target.x, 0f);
+        runner.step(0.25f);
+        assertEquals(7.5f, target.x, 0.0001f);
+    }
+
+    @Test
+    public void longSequencesAreSeekedInBothDirections() {
+        TweenRunner runner = new TweenRunner();
+        SequenceTween sequence = Tweens.inSequence();
+        Vector2 target = new Vector2();
+        for (int i = 0; i < 500; i++)
+            sequence.run(Tweens.to(target, i + 1, 0).duration(1).ease(Ease.linear));
+        sequence.start(runner);
+        runner.step(0.01f);
+        runner.seek(sequence, 300.5f);
+        assertEquals(300.5f, target.x, 0.001f);
+        runner.seek(sequence, 10.5f);
+        assertEquals(10.5f, target.x, 0.001f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void childTweensCannotBeSeeked() {
+        TweenRunner runner = new TweenRunner();
+        Vector2Tween child = Tweens.to(new Vector2(), 1, 1).duration(1);
+        Tweens.inSequence().run(child).start(runner);
+        runner.seek(child, 0.5f);
+    }
+}
@@ -0,0 +1,88 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.cyphercove.gdxtween.math.Scalar;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class StepBudgetTest {
+
+    private static int countBegun(Scalar[] targets) {
+        int begun = 0;
+        for (Scalar target : targets) {
+            if (target.x > 0f)
+                begun++;
+        }
+        return begun;
+    }
+
+    private static Scalar[] startTweens(TweenRunner runner, int count, float duration) {
+        Scalar[] targets = new Scalar[count];
+        for (int i = 0; i < count; i++) {
+            targets[i] = new Scalar();
+            Tweens.to(targets[i], 1f).duration(duration).ease(Ease.linear).start(runner);
+        }
+        return targets;
+    }
+
+    @Test
+    public void beginCountIsLimitedPerStep() {
+        TweenRunner runner = new TweenRunner();
+        runner.setStepBudget(10, 0);
+        Scalar[] targets = startTweens(runner, 100, 1f);
+        runner.step(0.1f);
+        assertEquals(10, countBegun(targets));
+        runner.step(0.1f);
+        assertEquals(20, countBegun(targets));
+        // Tweens started earlier begin first.
+        assertTrue(targets[19].x > 0f);
+        assertEquals(0f, targets[20].x, 0f);
+        for (int i = 0; i < 100; i++)
+            runner.step(0.1f);
+        for (Scalar target : targets)
+            assertEquals(1f, target.x, 0f);
+        assertFalse(runner.hasActiveTweens());
+    }
+
+    @Test
+    public void priorityTweensAreNotDeferred() {
+        TweenRunner runner = new TweenRunner();
+        runner.setStepBudget(1, 0);
+        startTweens(runner, 10, 1f);
+        Scalar priorityTarget = new Scalar();
+        Tweens.to(priorityTarget, 1f).duration(1f).ease(Ease.linear).priority(true).start(runner);
+        runner.step(0.1f);
+        assertEquals(0.1f, priorityTarget.x, 0.00001f);
+    }
+
+    @Test
+    public void timeBudgetStillFinishesAllTweens() {
+        TweenRunner runner = new TweenRunner();
+        runner.setStepBudget(0, 1);
+        Scalar[] targets = startTweens(runner, 100, 0.3f);
+        for (int i = 0; i < 200; i++)
+            runner.step(0.1f);
+        for (Scalar target : targets)
+            assertEquals(1f, target.x, 0f);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeBudgetIsRejected() {
+        new TweenRunner().setStepBudget(-1, 0);
+    }
+}
@@ -0,0 +1,194 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.utils.Array;
+import com.cyphercove.gdxtween.math.Scalar;
+import com.cyphercove.gdxtween.targettweens.ScalarTween;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TimingWheelTest {
+
+    private static DelayTween parkedTween(TimingWheel wheel, double wakeClock) {
+        DelayTween tween = DelayTween.newInstance();
+        tween.wakeClock = wakeClock;
+        wheel.add(tween);
+        return tween;
+    }
+
+    @Test
+    public void tweensWakeAtTheirExactTime() {
+        TimingWheel wheel = new TimingWheel();
+        Array<Tween<?>> output = new Array<Tween<?>>();
+        DelayTween withinTick = parkedTween(wheel, 0.001);
+        DelayTween lowLevel = parkedTween(wheel, 0.5);
+        DelayTween secondLevel = parkedTween(wheel, 10.0);
+        DelayTween thirdLevel = parkedTween(wheel, 1000.0);
+        assertEquals(4, wheel.size());
+
+        wheel.advance(0.0005, output);
+        assertEquals(0, output.size);
+        wheel.advance(0.001, output);
+        assertEquals(1, output.size);
+        assertSame(withinTick, output.pop());
+
+        wheel.advance(0.4999, output);
+        assertEquals(0, output.size);
+        wheel.advance(0.5, output);
+        assertSame(lowLevel, output.pop());
+
+        // Cascades from the second level one tick at a time.
+        for (double clock = 0.5; clock < 10.0; clock += 1.0 / 128.0) {
+            wheel.advance(clock, output);
+            assertEquals(0, output.size);
+        }
+        wheel.advance(10.0, output);
+        assertSame(secondLevel, output.pop());
+
+        // A long jump past the whole wheel.
+        wheel.advance(999.99, output);
+        assertEquals(0, output.size);
+        wheel.advance(2000.0, output);
+        assertSame(thirdLevel, output.pop());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void tweensBeyondTheTopLevelAreResorted() {
+        TimingWheel wheel = new TimingWheel();
+        Array<Tween<?>> output = new Array<Tween<?>>();
+        double farClock = 1000000.0; // More than the 262144 seconds the top level spans.
+        DelayTween far = parkedTween(wheel, farClock);
+        assertEquals(farClock, wheel.getEarliestWakeClock(), 0.0);
+        for (double clock = 0.0; clock < farClock; clock += 9999.5) {
+            wheel.advance(clock, output);
+            assertEquals(0, output.size);
+        }
+        wheel.advance(farClock, output);
+        assertSame(far, output.pop());
+    }
+
+    @Test
+    public void removedTweensAreNotReleased() {
+        TimingWheel wheel = new TimingWheel();
+        Array<Tween<?>> output = new Array<Tween<?>>();
+        DelayTween removed = parkedTween(wheel, 2.0);
+        DelayTween kept = parkedTween(wheel, 2.0);
+        wheel.remove(removed);
+        assertEquals(1, wheel.size());
+        wheel.advance(3.0, output);
+        assertEquals(1, output.size);
+        assertSame(kept, output.first());
+    }
+
+    @Test
+    public void randomAddsRemovesAndAdvancesMatchSortedOrder() {
+        Random random = new Random(3);
+        TimingWheel wheel = new TimingWheel();
+        Array<Tween<?>> parked = new Array<Tween<?>>();
+        Array<Tween<?>> output = new Array<Tween<?>>();
+        double clock = 0.0;
+        for (int step = 0; step < 5000; step++) {
+            if (random.nextInt(3) == 0) {
+                double delay = random.nextInt(10) == 0 ? random.nextDouble() * 100000.0
+                        : random.nextDouble() * (random.nextBoolean() ? 2.0 : 200.0);
+                parked.add(parkedTween(wheel, clock + delay));
+            }
+            if (random.nextInt(20) == 0 && parked.size > 0)
+                wheel.remove(parked.removeIndex(random.nextInt(parked.size)));
+
+            double earliest = Double.POSITIVE_INFINITY;
+            for (Tween<?> tween : parked)
+                earliest = Math.min(earliest, tween.wakeClock);
+            assertEquals(earliest, wheel.getEarliestWakeClock(), 0.0);
+
+            clock += random.nextInt(50) == 0 ? random.nextDouble() * 5000.0 : random.nextDouble() / 20.0;
+            wheel.advance(clock, output);
+            for (Tween<?> tween : output) {
+                assertTrue(tween.wakeClock <= clock);
+                assertTrue(parked.removeValue(tween, true));
+            }
+            output.clear();
+            for (Tween<?> tween : parked)
+                assertTrue(tween.wakeClock > clock);
+            assertEquals(parked.size, wheel.size());
+        }
+    }
+
+    private static Tween<?> delayedSequence(Scalar target, int i) {
+        return Tweens.inSequence()
+                .delay(i * 0.013f)
+                .run(Tweens.to(target, 1f).duration(0.5f))
+                .delay(i % 7 * 0.3f)
+                .run(Tweens.to(target, 2f).duration(0.2f));
+    }
+
+    @Test
+    public void parkedTweensMatchSteppedTweens() {
+        TweenRunner stepped = new TweenRunner();
+        TweenRunner parking = new TweenRunner();
+        parking.setParkingThreshold(0.1f);
+        int count = 200;
+        Scalar[] steppedTargets = new Scalar[count];
+        Scalar[] parkedTargets = new Scalar[count];
+        for (int i = 0; i < count; i++) {
+            steppedTargets[i] = new Scalar();
+            parkedTargets[i] = new Scalar();
+            delayedSequence(steppedTargets[i], i).start(stepped);
+            delayedSequence(parkedTargets[i], i).start(parking);
+        }
+        Random random = new Random(1);
+        for (int frame = 0; frame < 600; frame++) {
+            float deltaTime = frame == 20 ? 1f : random.nextFloat() / 30f;
+            stepped.step(deltaTime);
+            parking.step(deltaTime);
+            for (int i = 0; i < count; i++)
+                assertEquals(steppedTargets[i].x, parkedTargets[i].x, 0.001f);
+            if (frame == 10) {
+                // Interrupts a tween that is parked.
+                Tweens.to(steppedTargets[count - 1], 5f).duration(0.1f).start(stepped);
+                Tweens.to(parkedTargets[count - 1], 5f).duration(0.1f).start(parking);
+            }
+        }
+        assertEquals(0, parking.getChannel(TweenRunner.DEFAULT_CHANNEL).getTweenCount());
+    }
+
+    @Test
+    public void parkedTweensCanBeCanceled() {
+        TweenRunner runner = new TweenRunner();
+        runner.setParkingThreshold(0.5f);
+        Scalar target = new Scalar();
+        TweenChannel channel = runner.getChannel(TweenRunner.DEFAULT_CHANNEL);
+        Tweens.inSequence().delay(10f).run(Tweens.to(target, 1f).duration(1f)).start(runner);
+        runner.step(0.1f);
+        assertEquals(1, channel.getTweenCount());
+        assertTrue(runner.cancelAllTweens());
+        runner.step(0.1f);
+        assertEquals(0, channel.getTweenCount());
+
+        Tweens.inSequence().delay(10f).run(Tweens.to(target, 1f).duration(1f)).start(runner);
+        runner.step(0.1f);
+        runner.step(0.1f);
+        assertTrue(runner.interruptTweens(ScalarTween.class, target));
+        runner.step(0.1f);
+        assertEquals(0, channel.getTweenCount());
+        assertEquals(0f, target.x, 0f);
+    }
+}
@@ -0,0 +1,87 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.cyphercove.gdxtween.math.Scalar;
+import com.cyphercove.gdxtween.targettweens.ScalarTween;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TweenChannelTest {
+
+    @Test
+    public void channelsHaveTheirOwnTimeScale() {
+        TweenRunner runner = new TweenRunner();
+        Scalar a = new Scalar(), b = new Scalar();
+        Tweens.to(a, 1f).duration(1f).ease(Ease.linear).start(runner);
+        Tweens.to(b, 1f).duration(1f).ease(Ease.linear).start(runner, 3);
+        runner.getChannel(3).timeScale(0.5f);
+        runner.step(0.5f);
+        assertEquals(0.5f, a.x, 0.0001f);
+        assertEquals(0.25f, b.x, 0.0001f);
+    }
+
+    @Test
+    public void pausedChannelIsNotStepped() {
+        TweenRunner runner = new TweenRunner();
+        Scalar a = new Scalar(), b = new Scalar();
+        Tweens.to(a, 1f).duration(1f).ease(Ease.linear).start(runner);
+        Tweens.to(b, 1f).duration(1f).ease(Ease.linear).start(runner, 3);
+        runner.step(0.25f);
+        runner.getChannel(3).paused(true);
+        runner.step(0.5f);
+        assertEquals(0.75f, a.x, 0.0001f);
+        assertEquals(0.25f, b.x, 0.0001f);
+        runner.getChannel(3).paused(false);
+        runner.step(0.25f);
+        assertEquals(0.5f, b.x, 0.0001f);
+    }
+
+    @Test
+    public void tweensOnPausedChannelCanBeInterrupted() {
+        TweenRunner runner = new TweenRunner();
+        Scalar target = new Scalar();
+        ScalarTween paused = Tweens.to(target, 1f).duration(1f);
+        paused.start(runner, 3);
+        runner.getChannel(3).paused(true);
+        Tweens.to(target, -1f).duration(0.5f).start(runner);
+        assertTrue(paused.isCanceled());
+        runner.step(1f);
+        assertEquals(-1f, target.x, 0f);
+    }
+
+    @Test
+    public void cancelAllTweensOnlyAffectsTheGivenChannel() {
+        TweenRunner runner = new TweenRunner();
+        ScalarTween kept = Tweens.to(new Scalar(), 1f).duration(1f);
+        ScalarTween canceled = Tweens.to(new Scalar(), 1f).duration(1f);
+        kept.start(runner);
+        canceled.start(runner, 2);
+        assertFalse(runner.cancelAllTweens(5));
+        assertTrue(runner.cancelAllTweens(2));
+        assertTrue(canceled.isCanceled());
+        assertFalse(kept.isCanceled());
+        runner.step(0.1f);
+        assertEquals(0, runner.getChannel(2).getTweenCount());
+        assertEquals(1, runner.getChannel(TweenRunner.DEFAULT_CHANNEL).getTweenCount());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeTimeScaleIsRejected() {
+        new TweenRunner().getChannel(1).timeScale(-1f);
+    }
+}
@@ -0,0 +1,146 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.cyphercove.gdxtween.math.Scalar;
+import com.cyphercove.gdxtween.targettweens.ScalarTween;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TweenRunnerStepTest {
+
+    private static TweenCompletionListener<ScalarTween> recordCompletion(final IntArray order, final int id) {
+        return new TweenCompletionListener<ScalarTween>() {
+            @Override
+            public void onTweenComplete(ScalarTween tween) {
+                order.add(id);
+            }
+        };
+    }
+
+    @Test
+    public void finishedTweensAreRemovedAndOthersKeepRunningInOrder() {
+        TweenRunner runner = new TweenRunner();
+        IntArray order = new IntArray();
+        Scalar[] targets = new Scalar[10];
+        for (int i = 0; i < targets.length; i++) {
+            targets[i] = new Scalar();
+            // Every other tween finishes early.
+            float duration = i % 2 == 0 ? 0.25f : 1f;
+            Tweens.to(targets[i], 1f).duration(duration).completionListener(recordCompletion(order, i)).start(runner);
+        }
+        runner.step(0.5f);
+        assertArrayEquals(new int[]{0, 2, 4, 6, 8}, order.toArray());
+        runner.step(0.125f); // Completed tweens are freed on the step after they complete.
+        assertEquals(5, runner.getChannel(0).getTweenCount());
+
+        runner.step(1f);
+        assertArrayEquals(new int[]{0, 2, 4, 6, 8, 1, 3, 5, 7, 9}, order.toArray());
+        for (Scalar target : targets)
+            assertEquals(1f, target.x, 0f);
+        runner.step(0.125f);
+        assertEquals(0, runner.getChannel(0).getTweenCount());
+    }
+
+    @Test
+    public void canceledTweensAreRemoved() {
+        TweenRunner runner = new TweenRunner();
+        Scalar target = new Scalar();
+        ScalarTween tween = Tweens.to(target, 1f).duration(1f);
+        tween.start(runner);
+        runner.step(0.25f);
+        assertTrue(runner.cancelAllTweens());
+        runner.step(0.25f);
+        assertEquals(0, runner.getChannel(0).getTweenCount());
+        assertEquals(0.25f, target.x, 0f);
+    }
+
+    @Test
+    public void tweenStartedFromListenerIsSteppedOnTheNextStep() {
+        final TweenRunner runner = new TweenRunner();
+        final Scalar target = new Scalar();
+        Tweens.to(target, 1f).duration(0.5f).ease(Ease.linear).completionListener(new TweenCompletionListener<ScalarTween>() {
+            @Override
+            public void onTweenComplete(ScalarTween tween) {
+                Tweens.to(target, 2f).duration(0.5f).ease(Ease.linear).start(runner);
+            }
+        }).start(runner);
+        runner.step(0.75f);
+        assertEquals(1f, target.x, 0f); // The new tween has not been stepped yet.
+
+        runner.step(0.25f);
+        assertEquals(1.5f, target.x, 0.0001f);
+        runner.step(0.5f);
+        assertEquals(2f, target.x, 0f);
+    }
+
+    @Test
+    public void tweensStartedFromListenerInterruptRunningTweens() {
+        final TweenRunner runner = new TweenRunner();
+        final Scalar first = new Scalar(), second = new Scalar();
+        ScalarTween secondTween = Tweens.to(second, 1f).duration(2f);
+        secondTween.start(runner);
+        Tweens.to(first, 1f).duration(0.5f).completionListener(new TweenCompletionListener<ScalarTween>() {
+            @Override
+            public void onTweenComplete(ScalarTween tween) {
+                Tweens.to(second, -1f).duration(0.5f).start(runner);
+            }
+        }).start(runner);
+        runner.step(1f);
+        assertTrue(secondTween.isCanceled());
+        runner.step(1f);
+        assertEquals(-1f, second.x, 0f);
+    }
+
+    @Test
+    public void runnerIsActiveOnlyWhileTweensWillChange() {
+        TweenRunner runner = new TweenRunner();
+        assertFalse(runner.hasActiveTweens());
+        assertEquals(Float.POSITIVE_INFINITY, runner.getTimeUntilNextUpdate(), 0f);
+
+        Tweens.to(new Scalar(), 1f).duration(1f).start(runner, 2);
+        assertTrue(runner.hasActiveTweens());
+        assertEquals(0f, runner.getTimeUntilNextUpdate(), 0f);
+        runner.getChannel(2).paused(true);
+        assertFalse(runner.hasActiveTweens());
+        runner.getChannel(2).paused(false).timeScale(0f);
+        assertFalse(runner.hasActiveTweens());
+        runner.getChannel(2).timeScale(1f);
+        runner.step(1f);
+        assertFalse(runner.hasActiveTweens());
+    }
+
+    @Test
+    public void timeUntilNextUpdateIncludesParkedTweens() {
+        TweenRunner runner = new TweenRunner();
+        runner.setParkingThreshold(0.5f);
+        Scalar target = new Scalar();
+        Tweens.inSequence().delay(3f).run(Tweens.to(target, 1f).duration(1f)).start(runner);
+        assertEquals(0f, runner.getTimeUntilNextUpdate(), 0f); // Not parked before its first step.
+        runner.step(1f);
+        assertTrue(runner.hasActiveTweens());
+        assertEquals(2f, runner.getTimeUntilNextUpdate(), 0.0001f);
+        runner.getChannel(TweenRunner.DEFAULT_CHANNEL).timeScale(2f);
+        assertEquals(1f, runner.getTimeUntilNextUpdate(), 0.0001f);
+        runner.step(1f);
+        assertEquals(0f, runner.getTimeUntilNextUpdate(), 0f);
+        runner.step(5f);
+        assertFalse(runner.hasActiveTweens());
+        assertEquals(1f, target.x, 0f);
+    }
+}
@@ -0,0 +1,143 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.badlogic.gdx.math.Vector2;
+import com.cyphercove.gdxtween.targettweens.Vector2Tween;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class TweenScheduleTest {
+
+    /** A runner with its own targets and a log of completed tween names. */
+    private static class World {
+        final TweenRunner runner = new TweenRunner();
+        final Vector2[] targets = new Vector2[6];
+        final StringBuilder log = new StringBuilder();
+        int nameCounter;
+
+        World(boolean compiled, float parkingThreshold) {
+            runner.setCompiledSchedules(compiled);
+            if (parkingThreshold > 0f)
+                runner.setParkingThreshold(parkingThreshold);
+            for (int i = 0; i < targets.length; i++)
+                targets[i] = new Vector2();
+        }
+
+        /** Builds a random hierarchy. Worlds given identically seeded Randoms build identical hierarchies. */
+        Tween<?> build(Random random, int depth) {
+            final String name = "t" + (nameCounter++);
+            if (depth == 3 || (depth > 0 && random.nextFloat() < 0.6f)) {
+                GroupTween<?> group = random.nextBoolean() ? Tweens.inSequence() : Tweens.inParallel();
+                int childCount = 1 + random.nextInt(4);
+                for (int i = 0; i < childCount; i++)
+                    group.run(build(random, depth - 1));
+                if (group instanceof SequenceTween) {
+                    ((SequenceTween) group).completionListener(new TweenCompletionListener<SequenceTween>() {
+                        @Override
+                        public void onTweenComplete(SequenceTween tween) {
+                            log.append(name).append(' ');
+                        }
+                    });
+                } else {
+                    ((ParallelTween) group).completionListener(new TweenCompletionListener<ParallelTween>() {
+                        @Override
+                        public void onTweenComplete(ParallelTween tween) {
+                            log.append(name).append(' ');
+                        }
+                    });
+                }
+                return group;
+            }
+            if (random.nextFloat() < 0.2f)
+                return Tweens.inSequence().delay(random.nextInt(4) * 0.25f);
+            return Tweens.to(targets[random.nextInt(targets.length)], random.nextInt(10), random.nextInt(10))
+                    .duration(random.nextInt(5) * 0.25f)
+                    .ease(Ease.linear)
+                    .completionListener(new TweenCompletionListener<Vector2Tween>() {
+                        @Override
+                        public void onTweenComplete(Vector2Tween tween) {
+                            log.append(name).append(' ');
+                        }
+                    });
+        }
+    }
+
+    private static void assertSameState(String message, World expected, World actual) {
+        for (int i = 0; i < expected.targets.length; i++) {
+            assertEquals(message, expected.targets[i].x, actual.targets[i].x, 0.0001f);
+            assertEquals(message, expected.targets[i].y, actual.targets[i].y, 0.0001f);
+        }
+        assertEquals(message, expected.log.toString(), actual.log.toString());
+    }
+
+    @Test
+    public void compiledSchedulesMatchRecursiveStepping() {
+        int compiledCount = 0;
+        for (int trial = 0; trial < 300; trial++) {
+            float parkingThreshold = trial % 3 == 0 ? 0.2f : 0f;
+            World recursive = new World(false, parkingThreshold);
+            World compiled = new World(true, parkingThreshold);
+            Tween<?> recursiveTween = recursive.build(new Random(trial), 3);
+            Tween<?> compiledTween = compiled.build(new Random(trial), 3);
+            if (recursiveTween instanceof GroupTween) {
+                ChildInterruptionBehavior behavior = trial % 2 == 0 ?
+                        ChildInterruptionBehavior.MuteChild : ChildInterruptionBehavior.CancelHierarchy;
+                ((GroupTween<?>) recursiveTween).childInterruptionBehavior(behavior);
+                ((GroupTween<?>) compiledTween).childInterruptionBehavior(behavior);
+            }
+            recursiveTween.start(recursive.runner);
+            compiledTween.start(compiled.runner);
+            if (compiledTween instanceof GroupTween && ((GroupTween<?>) compiledTween).schedule != null)
+                compiledCount++;
+
+            Random actions = new Random(trial * 31);
+            for (int frame = 0; frame < 80; frame++) {
+                float deltaTime = 0.0625f * (1 + actions.nextInt(4));
+                int action = actions.nextInt(40);
+                if (action == 0) {
+                    int targetIndex = actions.nextInt(recursive.targets.length);
+                    Tweens.to(recursive.targets[targetIndex], 1, 1).duration(0.3f).start(recursive.runner);
+                    Tweens.to(compiled.targets[targetIndex], 1, 1).duration(0.3f).start(compiled.runner);
+                } else if (action == 1 && !recursiveTween.isComplete() && !recursiveTween.isCanceled()
+                        && recursiveTween.isAttached()) {
+                    float time = actions.nextFloat() * recursiveTween.getDuration();
+                    recursive.runner.seek(recursiveTween, time);
+                    compiled.runner.seek(compiledTween, time);
+                }
+                recursive.runner.step(deltaTime);
+                compiled.runner.step(deltaTime);
+                assertSameState("Trial " + trial + ", frame " + frame, recursive, compiled);
+            }
+        }
+        assertTrue(compiledCount > 100);
+    }
+
+    @Test
+    public void repeatingHierarchiesAreNotCompiled() {
+        TweenRunner runner = new TweenRunner();
+        runner.setCompiledSchedules(true);
+        SequenceTween plain = Tweens.inSequence().run(Tweens.to(new Vector2(), 1, 1).duration(1));
+        SequenceTween repeating = Tweens.inSequence().run(Tweens.to(new Vector2(), 1, 1).duration(1).repeat(1));
+        plain.start(runner);
+        repeating.start(runner);
+        assertNotNull(plain.schedule);
+        assertNull(repeating.schedule);
+    }
+}
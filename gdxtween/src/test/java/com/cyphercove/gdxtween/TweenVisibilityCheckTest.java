@@ -0,0 +1,69 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween;
+
+import com.cyphercove.gdxtween.math.Scalar;
+import com.cyphercove.gdxtween.targettweens.ScalarTween;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TweenVisibilityCheckTest {
+
+    private static class ToggledVisibility implements TweenVisibilityCheck<Scalar> {
+        boolean visible;
+        int callCount;
+
+        @Override
+        public boolean isVisible(Scalar target) {
+            callCount++;
+            return visible;
+        }
+    }
+
+    @Test
+    public void hiddenTargetsAreNotApplied() {
+        TweenRunner runner = new TweenRunner();
+        ToggledVisibility visibility = new ToggledVisibility();
+        Scalar target = new Scalar();
+        Tweens.to(target, 1f).duration(1f).ease(Ease.linear).visibilityCheck(visibility).start(runner);
+        runner.step(0.5f);
+        assertTrue(visibility.callCount > 0);
+        assertEquals(0f, target.x, 0f);
+        visibility.visible = true;
+        runner.step(0.25f);
+        assertEquals(0.75f, target.x, 0.0001f);
+    }
+
+    @Test
+    public void hiddenTweensStillCompleteWithTheirEndValues() {
+        TweenRunner runner = new TweenRunner();
+        ToggledVisibility visibility = new ToggledVisibility();
+        final boolean[] completed = {false};
+        Scalar target = new Scalar();
+        Tweens.to(target, 1f).duration(1f).visibilityCheck(visibility)
+                .completionListener(new TweenCompletionListener<ScalarTween>() {
+                    @Override
+                    public void onTweenComplete(ScalarTween tween) {
+                        completed[0] = true;
+                    }
+                }).start(runner);
+        runner.step(0.5f);
+        runner.step(0.75f);
+        assertTrue(completed[0]);
+        assertEquals(1f, target.x, 0f);
+    }
+}
@@ -0,0 +1,98 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween.targettweens;
+
+import com.badlogic.gdx.math.GridPoint2;
+import com.badlogic.gdx.math.Vector3;
+import com.cyphercove.gdxtween.Ease;
+import com.cyphercove.gdxtween.TweenRunner;
+import com.cyphercove.gdxtween.Tweens;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ApplyAllTest {
+
+    private static class CountingAccessor implements AccessorTween.Accessor {
+        final float[] values = new float[3];
+        int setValueCount;
+
+        @Override
+        public int getNumberOfValues() {
+            return values.length;
+        }
+
+        @Override
+        public float getValue(int index) {
+            return values[index];
+        }
+
+        @Override
+        public void setValue(int index, float newValue) {
+            values[index] = newValue;
+            setValueCount++;
+        }
+    }
+
+    private static class CountingBulkAccessor extends CountingAccessor implements AccessorTween.BulkAccessor {
+        int setValuesCount;
+
+        @Override
+        public void setValues(float[] newValues) {
+            System.arraycopy(newValues, 0, values, 0, values.length);
+            setValuesCount++;
+        }
+    }
+
+    @Test
+    public void accessorValuesAreSetOneByOne() {
+        TweenRunner runner = new TweenRunner();
+        CountingAccessor accessor = new CountingAccessor();
+        Tweens.to(accessor).end(0, 1f).end(1, 2f).end(2, 3f).duration(1f).ease(Ease.linear).start(runner);
+        runner.step(0.5f);
+        assertEquals(3, accessor.setValueCount);
+        assertArrayEquals(new float[]{0.5f, 1f, 1.5f}, accessor.values, 0.0001f);
+    }
+
+    @Test
+    public void bulkAccessorValuesAreSetTogether() {
+        TweenRunner runner = new TweenRunner();
+        CountingBulkAccessor accessor = new CountingBulkAccessor();
+        Tweens.to(accessor).end(0, 1f).end(1, 2f).end(2, 3f).duration(1f).ease(Ease.linear).start(runner);
+        runner.step(0.5f);
+        assertEquals(1, accessor.setValuesCount);
+        assertEquals(0, accessor.setValueCount);
+        assertArrayEquals(new float[]{0.5f, 1f, 1.5f}, accessor.values, 0.0001f);
+        runner.step(0.5f);
+        assertEquals(2, accessor.setValuesCount);
+        assertArrayEquals(new float[]{1f, 2f, 3f}, accessor.values, 0f);
+    }
+
+    @Test
+    public void builtInTweensApplyWholeVectors() {
+        TweenRunner runner = new TweenRunner();
+        Vector3 vector = new Vector3();
+        GridPoint2 gridPoint = new GridPoint2();
+        Tweens.to(vector, 2f, 4f, -8f).duration(1f).ease(Ease.linear).start(runner);
+        Tweens.to(gridPoint, 3, -3).duration(1f).ease(Ease.linear).start(runner);
+        runner.step(0.25f);
+        assertTrue(vector.epsilonEquals(0.5f, 1f, -2f, 0.0001f));
+        assertEquals(new GridPoint2(1, -1), gridPoint);
+        runner.step(0.75f);
+        assertEquals(new Vector3(2f, 4f, -8f), vector);
+        assertEquals(new GridPoint2(3, -3), gridPoint);
+    }
+}
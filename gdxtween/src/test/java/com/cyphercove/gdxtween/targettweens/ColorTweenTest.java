@@ -0,0 +1,64 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween.targettweens;
+
+import com.badlogic.gdx.graphics.Color;
+import com.cyphercove.gdxtween.TweenRunner;
+import com.cyphercove.gdxtween.Tweens;
+import com.cyphercove.gdxtween.graphics.ColorSpace;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class ColorTweenTest {
+
+    private static void assertColorEquals(String message, Color expected, Color actual, float tolerance) {
+        assertEquals(message, expected.r, actual.r, tolerance);
+        assertEquals(message, expected.g, actual.g, tolerance);
+        assertEquals(message, expected.b, actual.b, tolerance);
+        assertEquals(message, expected.a, actual.a, tolerance);
+    }
+
+    @Test
+    public void everyColorSpaceStartsAndEndsAtTheGivenColors() {
+        Color start = new Color(0.8f, 0.2f, 0.1f, 1f);
+        Color end = new Color(0.1f, 0.5f, 0.9f, 1f);
+        for (ColorSpace colorSpace : ColorSpace.values()) {
+            TweenRunner runner = new TweenRunner();
+            Color color = new Color(start);
+            Tweens.toRgb(color, end).colorSpace(colorSpace).duration(1f).start(runner);
+            runner.step(0.0001f);
+            assertColorEquals(colorSpace.name(), start, color, 0.01f);
+            runner.step(0.5f);
+            runner.step(0.6f);
+            assertColorEquals(colorSpace.name(), end, color, 0f);
+        }
+    }
+
+    @Test
+    public void tweeningToTheSameColorKeepsItUnchanged() {
+        Color original = new Color(0.7f, 0.4f, 0.2f, 1f);
+        for (ColorSpace colorSpace : ColorSpace.values()) {
+            TweenRunner runner = new TweenRunner();
+            Color color = new Color(original);
+            Tweens.toRgb(color, original).colorSpace(colorSpace).duration(1f).start(runner);
+            for (int i = 0; i < 4; i++) {
+                runner.step(0.2f);
+                assertColorEquals(colorSpace.name(), original, color, 0.002f);
+            }
+        }
+    }
+}
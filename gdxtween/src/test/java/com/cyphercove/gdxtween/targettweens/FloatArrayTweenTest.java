@@ -0,0 +1,103 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween.targettweens;
+
+import com.badlogic.gdx.utils.FloatArray;
+import com.cyphercove.gdxtween.Ease;
+import com.cyphercove.gdxtween.TweenRunner;
+import com.cyphercove.gdxtween.Tweens;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FloatArrayTweenTest {
+
+    private static boolean overlapsBruteForce(int offset, int stride, int count, int otherOffset, int otherStride,
+                                              int otherCount) {
+        for (int i = 0; i < count; i++) {
+            for (int j = 0; j < otherCount; j++) {
+                if (offset + i * stride == otherOffset + j * otherStride)
+                    return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void overlapsMatchesBruteForce() {
+        for (int offset = 0; offset < 6; offset++) {
+            for (int stride = 1; stride < 5; stride++) {
+                for (int count = 1; count < 5; count++) {
+                    for (int otherOffset = 0; otherOffset < 6; otherOffset++) {
+                        for (int otherStride = 1; otherStride < 5; otherStride++) {
+                            for (int otherCount = 1; otherCount < 5; otherCount++) {
+                                assertEquals(
+                                        overlapsBruteForce(offset, stride, count, otherOffset, otherStride, otherCount),
+                                        StridedFloatTween.overlaps(offset, stride, count, otherOffset, otherStride,
+                                                otherCount));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void tweensOnlyInterruptWhereElementsOverlap() {
+        TweenRunner runner = new TweenRunner();
+        float[] vertices = new float[12]; // Four vertices of x, y, z.
+        FloatArrayTween xs = Tweens.to(vertices, 0, 3, 1f, 2f, 3f, 4f).duration(1f).ease(Ease.linear);
+        FloatArrayTween ys = Tweens.to(vertices, 1, 3, 5f, 5f, 5f, 5f).duration(1f).ease(Ease.linear);
+        xs.start(runner);
+        ys.start(runner);
+        runner.step(0.5f);
+        assertFalse(xs.isCanceled());
+        assertFalse(ys.isCanceled());
+        assertEquals(0.5f, vertices[0], 0f);
+        assertEquals(2.5f, vertices[1], 0f);
+        assertEquals(1f, vertices[3], 0f);
+
+        // Overlaps xs at index 6 only.
+        Tweens.to(vertices, 6, 1, 0f).duration(1f).ease(Ease.cubic()).start(runner);
+        assertTrue(xs.isCanceled());
+        assertFalse(ys.isCanceled());
+        runner.step(0.5f);
+        runner.step(0.6f);
+        assertEquals(0f, vertices[6], 0f);
+        assertEquals(5f, vertices[1], 0f);
+        assertEquals(2f, vertices[9], 0f);
+    }
+
+    @Test
+    public void floatArrayElementsAreStrided() {
+        TweenRunner runner = new TweenRunner();
+        FloatArray array = new FloatArray(new float[]{1f, 1f, 1f});
+        Tweens.to(array, 0, 2, 3f, 3f).duration(0.1f).start(runner);
+        runner.step(0.2f);
+        assertArrayEquals(new float[]{3f, 1f, 3f}, array.toArray(), 0f);
+    }
+
+    @Test
+    public void arrayTweensCanBeInterruptedManually() {
+        TweenRunner runner = new TweenRunner();
+        float[] values = new float[4];
+        FloatArrayTween tween = Tweens.to(values, 0, 1, 9f).duration(1f);
+        tween.start(runner);
+        assertTrue(runner.interruptTweens(FloatArrayTween.class, values));
+        assertTrue(tween.isCanceled());
+    }
+}
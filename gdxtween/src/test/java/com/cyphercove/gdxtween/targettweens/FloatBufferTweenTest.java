@@ -0,0 +1,87 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween.targettweens;
+
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.cyphercove.gdxtween.Ease;
+import com.cyphercove.gdxtween.TweenRunner;
+import com.cyphercove.gdxtween.Tweens;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+import static org.junit.Assert.*;
+
+public class FloatBufferTweenTest {
+
+    private static FloatBuffer createBuffer(int size) {
+        return ByteBuffer.allocateDirect(4 * size).order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+
+    @Test
+    public void dirtyRangeCoversWrittenElements() {
+        TweenRunner runner = new TweenRunner();
+        FloatBuffer buffer = createBuffer(12);
+        FloatBufferTween.DirtyRange range = new FloatBufferTween.DirtyRange();
+        FloatBufferTween first = Tweens.to(buffer, 1, 3, 1f, 1f).duration(1f).ease(Ease.linear).dirtyRange(range);
+        FloatBufferTween second = Tweens.to(buffer, 8, 1, 2f).duration(1f).ease(Ease.linear).dirtyRange(range);
+        first.start(runner);
+        second.start(runner);
+        assertTrue(range.isEmpty());
+        assertEquals(0, range.getLength());
+        runner.step(0.5f);
+        assertEquals(1, range.getStart());
+        assertEquals(9, range.getEnd());
+        assertEquals(0.5f, buffer.get(4), 0f);
+        assertEquals(1f, buffer.get(8), 0f);
+        assertEquals(0, buffer.position());
+
+        range.clear();
+        assertTrue(range.isEmpty());
+        Tweens.to(buffer, 4, 4, 0f, 0f).duration(1f).start(runner);
+        assertTrue(first.isCanceled());
+        assertTrue(second.isCanceled());
+        runner.step(2f);
+        assertTrue(range.isEmpty());
+    }
+
+    @Test
+    public void sharedDirtyRangeWithParallelStepping() {
+        AsyncExecutor executor = new AsyncExecutor(3);
+        try {
+            TweenRunner runner = new TweenRunner();
+            runner.setParallelStepping(executor, 4, 10);
+            int count = 4000;
+            FloatBuffer buffer = createBuffer(count);
+            FloatBufferTween.DirtyRange range = new FloatBufferTween.DirtyRange();
+            for (int i = 0; i < count; i++)
+                Tweens.to(buffer, i, 1, 1f).duration(1f).ease(Ease.linear).dirtyRange(range).start(runner);
+            // The tweens are started in order, so the first and last partitions race to expand the range.
+            for (int step = 1; step <= 3; step++) {
+                range.clear();
+                runner.step(0.25f);
+                assertEquals(0, range.getStart());
+                assertEquals(count, range.getEnd());
+            }
+            for (int i = 0; i < count; i++)
+                assertEquals(0.75f, buffer.get(i), 0f);
+        } finally {
+            executor.dispose();
+        }
+    }
+}
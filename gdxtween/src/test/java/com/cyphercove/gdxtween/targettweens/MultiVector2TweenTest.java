@@ -0,0 +1,108 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween.targettweens;
+
+import com.badlogic.gdx.math.Vector2;
+import com.cyphercove.gdxtween.Ease;
+import com.cyphercove.gdxtween.TweenInterruptionListener;
+import com.cyphercove.gdxtween.TweenRunner;
+import com.cyphercove.gdxtween.Tweens;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class MultiVector2TweenTest {
+
+    private static Vector2[] createVectors(int count) {
+        Vector2[] vectors = new Vector2[count];
+        for (int i = 0; i < count; i++)
+            vectors[i] = new Vector2();
+        return vectors;
+    }
+
+    private static float[] endValues(int count, float x, float y) {
+        float[] values = new float[count * 2];
+        for (int i = 0; i < count; i++) {
+            values[i * 2] = x;
+            values[i * 2 + 1] = y;
+        }
+        return values;
+    }
+
+    @Test
+    public void allTargetsAreMoved() {
+        TweenRunner runner = new TweenRunner();
+        Vector2[] vectors = createVectors(4);
+        Tweens.toAll(vectors, endValues(4, 10f, 20f)).duration(1f).ease(Ease.linear).start(runner);
+        runner.step(0.5f);
+        for (Vector2 vector : vectors)
+            assertTrue(vector.epsilonEquals(5f, 10f, 0.0001f));
+        runner.step(0.5f);
+        for (Vector2 vector : vectors)
+            assertEquals(new Vector2(10f, 20f), vector);
+        runner.step(0.1f);
+        assertFalse(runner.hasActiveTweens());
+    }
+
+    private static void testInterruptionOnEachTarget(boolean batched) {
+        TweenRunner runner = new TweenRunner();
+        runner.getChannel(TweenRunner.DEFAULT_CHANNEL).batched(batched);
+        final int[] interruptionCount = {0};
+        Vector2[] vectors = createVectors(4);
+        MultiVector2Tween multiTween = Tweens.toAll(vectors, endValues(4, 10f, 20f)).duration(1f).ease(Ease.linear)
+                .interruptionListener(new TweenInterruptionListener<MultiVector2Tween>() {
+                    @Override
+                    public void onTweenInterrupted(MultiVector2Tween tween) {
+                        interruptionCount[0]++;
+                    }
+                });
+        multiTween.start(runner);
+        runner.step(0.5f);
+        runner.step(0f);
+
+        // Only the interrupted target stops following the tween.
+        Tweens.to(vectors[1], -1f, -1f).duration(1f).start(runner);
+        runner.step(0.25f);
+        assertTrue(vectors[1].x < 5f);
+        assertEquals(7.5f, vectors[0].x, 0.0001f);
+        assertEquals(0, interruptionCount[0]);
+
+        Tweens.toAll(new Vector2[]{vectors[0], vectors[2]}, endValues(2, 100f, 100f)).duration(0.1f).start(runner);
+        assertFalse(multiTween.isCanceled());
+        // Interrupting the last target interrupts the whole tween.
+        assertTrue(runner.interruptTweens(Vector2Tween.class, vectors[3]));
+        assertTrue(multiTween.isCanceled());
+        assertEquals(1, interruptionCount[0]);
+
+        runner.step(2f);
+        runner.step(0.1f);
+        assertEquals(100f, vectors[0].x, 0f);
+        assertEquals(-1f, vectors[1].x, 0f);
+        assertEquals(100f, vectors[2].x, 0f);
+        assertEquals(7.5f, vectors[3].x, 0.0001f);
+        assertFalse(runner.hasActiveTweens());
+    }
+
+    @Test
+    public void targetsAreInterruptedSeparately() {
+        testInterruptionOnEachTarget(false);
+    }
+
+    @Test
+    public void batchedTargetsAreInterruptedSeparately() {
+        testInterruptionOnEachTarget(true);
+    }
+}
@@ -0,0 +1,150 @@
+/* ******************************************************************************
+ * Copyright 2020 See AUTHORS file.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+package com.cyphercove.gdxtween.targettweens;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.utils.NumberUtils;
+import com.cyphercove.gdxtween.Ease;
+import com.cyphercove.gdxtween.TweenRunner;
+import com.cyphercove.gdxtween.Tweens;
+import org.junit.Test;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import static org.junit.Assert.*;
+
+public class PackedColorTweenTest {
+
+    private static class PackedColorHolder implements PackedColorAccessorTween.Accessor {
+        float packedColor;
+
+        PackedColorHolder(float packedColor) {
+            this.packedColor = packedColor;
+        }
+
+        @Override
+        public float getPackedColor() {
+            return packedColor;
+        }
+
+        @Override
+        public void setPackedColor(float packedColor) {
+            this.packedColor = packedColor;
+        }
+
+        int getRed() {
+            return NumberUtils.floatToIntColor(packedColor) & 0xff;
+        }
+    }
+
+    @Test
+    public void componentsAreRoundedToNearestLevel() {
+        TweenRunner runner = new TweenRunner();
+        PackedColorHolder holder = new PackedColorHolder(Color.CLEAR.toFloatBits());
+        Tweens.toPacked(holder, 1f, 0f, 0f, 0f).duration(255f).ease(Ease.linear).start(runner);
+        // Each step moves red by 0.4 of a level, so both sides of the rounding midpoint are visited.
+        for (int i = 1; i <= 100; i++) {
+            runner.step(0.4f);
+            assertEquals(Math.round(i * 0.4f), holder.getRed());
+        }
+    }
+
+    @Test
+    public void overshootingValuesAreClamped() {
+        TweenRunner runner = new TweenRunner();
+        PackedColorHolder holder = new PackedColorHolder(new Color(0.5f, 0.5f, 0.5f, 1f).toFloatBits());
+        Tweens.toPacked(holder, 1f, 0f, 1f, 1f).duration(1f).ease(Ease.wrap(Interpolation.swingOut)).start(runner);
+        runner.step(0.5f); // swingOut overshoots past the end values here.
+        int abgr = NumberUtils.floatToIntColor(holder.packedColor);
+        assertEquals(255, abgr & 0xff);
+        assertEquals(0, (abgr >>> 8) & 0xff);
+        assertEquals(255, (abgr >>> 16) & 0xff);
+    }
+
+    @Test
+    public void tweeningToTheSamePackedColorKeepsItUnchanged() {
+        TweenRunner runner = new TweenRunner();
+        float packedColor = new Color(0.2f, 0.4f, 0.6f, 0.8f).toFloatBits();
+        PackedColorHolder holder = new PackedColorHolder(packedColor);
+        PackedColorAccessorTween.newInstance().target(holder).end(packedColor).duration(1f).start(runner);
+        for (int i = 0; i < 5; i++) {
+            runner.step(0.25f);
+            assertEquals(NumberUtils.floatToIntColor(packedColor), NumberUtils.floatToIntColor(holder.packedColor));
+        }
+    }
+
+    @Test
+    public void arrayTweensOnlyInterruptOverlappingColors() {
+        TweenRunner runner = new TweenRunner();
+        float[] vertices = new float[20]; // Four vertices of x, y, color, u, v.
+        float startColor = new Color(0.2f, 0.4f, 0.6f, 1f).toFloatBits();
+        for (int i = 0; i < 4; i++)
+            vertices[2 + i * 5] = startColor;
+        PackedColorArrayTween tween = Tweens.toPacked(vertices, 2, 5, 4, 1f, 0f, 0f, 0.5f).duration(1f)
+                .ease(Ease.linear);
+        tween.start(runner);
+        runner.step(0f);
+        assertEquals(startColor, vertices[2], 0f);
+        assertEquals(startColor, vertices[17], 0f);
+        runner.step(0.5f);
+        Color color = new Color();
+        Color.abgr8888ToColor(color, vertices[7]);
+        assertEquals(0.6f, color.r, 0.01f);
+        assertEquals(0.75f, color.a, 0.01f);
+        assertEquals(0f, vertices[0], 0f);
+
+        Tweens.toPacked(vertices, 0, 1, 2, 0f, 0f, 0f, 0f).duration(1f).start(runner);
+        assertFalse(tween.isCanceled());
+        Tweens.toPacked(vertices, 12, 5, 1, 0f, 0f, 0f, 0f).duration(1f).start(runner);
+        assertTrue(tween.isCanceled());
+    }
+
+    @Test
+    public void arrayElementsAreNotChangedAfterStart() {
+        final int[] errorCount = new int[1];
+        Application previousApp = Gdx.app;
+        Gdx.app = (Application) Proxy.newProxyInstance(Application.class.getClassLoader(),
+                new Class<?>[]{Application.class}, new InvocationHandler() {
+                    @Override
+                    public Object invoke(Object proxy, Method method, Object[] args) {
+                        if (method.getName().equals("error"))
+                            errorCount[0]++;
+                        return null;
+                    }
+                });
+        try {
+            TweenRunner runner = new TweenRunner();
+            float[] vertices = new float[20];
+            PackedColorArrayTween tween = Tweens.toPacked(vertices, 2, 5, 4, 1f, 0f, 0f, 1f).duration(1f);
+            tween.start(runner);
+            tween.elements(0, 1, 2);
+            assertEquals(1, errorCount[0]);
+            assertEquals(2, tween.getOffset());
+            assertEquals(5, tween.getStride());
+            assertEquals(4, tween.getCount());
+            runner.step(1f);
+            assertEquals(0f, vertices[0], 0f);
+            assertEquals(Color.RED.toFloatBits(), vertices[17], 0f);
+        } finally {
+            Gdx.app = previousApp;
+        }
+    }
+}